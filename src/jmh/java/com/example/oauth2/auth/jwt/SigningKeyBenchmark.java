@@ -0,0 +1,84 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.member.domain.Member;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 비밀값을 디코딩하던 방식과 시작할 때 만든 키/파서를 재사용하는 방식을 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningKeyBenchmark {
+
+    private String secret;
+    private TokenProvider tokenProvider;
+    private Member member;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secretBytes = new byte[32];
+        new SecureRandom().nextBytes(secretBytes);
+        secret = TextCodec.BASE64.encode(secretBytes);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(secret);
+        tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+        member = Member.builder().id(1L).build();
+        token = tokenProvider.generateToken(member, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public String signWithRawSecret() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofDays(1).toMillis()))
+                .setSubject(String.valueOf(member.getId()))
+                .claim("id", member.getId())
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+
+    @Benchmark
+    public String signWithPrecomputedKey() {
+        return tokenProvider.generateToken(member, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public Object verifyWithRawSecret() {
+        return Jwts.parser()
+                .setSigningKey(secret)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public ParsedToken verifyWithSharedParser() {
+        return tokenProvider.parse(token);
+    }
+}
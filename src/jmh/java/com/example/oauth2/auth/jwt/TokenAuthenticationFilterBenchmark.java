@@ -0,0 +1,97 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.auth.revocation.RevocationChannel;
+import com.example.oauth2.auth.revocation.TokenRevocationService;
+import com.example.oauth2.member.domain.Member;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목 서블릿 객체로 TokenAuthenticationFilter 한 번의 실행 전체를 측정한다.
+ * cacheSize 가 0 이면 검증된 토큰 캐시를 끈 상태이다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenAuthenticationFilterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class FilterState {
+
+        @Param({"0", "10000"})
+        private int cacheSize;
+
+        private TokenAuthenticationFilter filter;
+        private String token;
+
+        @Setup
+        public void setUp() {
+            byte[] secretBytes = new byte[32];
+            new SecureRandom().nextBytes(secretBytes);
+
+            JwtProperties jwtProperties = new JwtProperties();
+            jwtProperties.setSecret(TextCodec.BASE64.encode(secretBytes));
+            TokenProvider tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+            filter = new TokenAuthenticationFilter(new TokenAuthenticator(tokenProvider, new VerifiedTokenCache(cacheSize, new SimpleMeterRegistry()),
+                    new TokenRevocationService(new LocalRevocationChannel(), 100_000, 0.01, 600_000), new SimpleMeterRegistry()));
+            token = tokenProvider.generateToken(Member.builder().id(1L).build(), Duration.ofDays(1));
+        }
+    }
+
+    /**
+     * 다른 노드 없이 폐기 이벤트를 버리는 채널
+     */
+    private static class LocalRevocationChannel implements RevocationChannel {
+        @Override
+        public void publish(String tokenId, long expiresAt) {
+        }
+
+        @Override
+        public void subscribe(Listener listener) {
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class RequestState {
+        private MockHttpServletRequest request;
+        private MockHttpServletResponse response;
+        private final FilterChain chain = (request, response) -> {
+        };
+
+        @Setup
+        public void setUp(FilterState filterState) {
+            request = new MockHttpServletRequest("GET", "/api/member");
+            request.addHeader("Authorization", "Bearer " + filterState.token);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public Object doFilterInternal(FilterState filterState, RequestState requestState) throws Exception {
+        filterState.filter.doFilter(requestState.request, requestState.response, requestState.chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
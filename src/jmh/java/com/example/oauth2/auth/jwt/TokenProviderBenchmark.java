@@ -0,0 +1,98 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.member.domain.Member;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenProvider 의 발급/검증 경로를 측정한다.
+ * paddingBytes 가 0 이면 TokenProvider 가 직접 발급한 토큰을, 그 외에는 지정한 크기의 클레임을 더한 토큰을 사용한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    @Param({"1", "9223372036854775807"})
+    private long memberId;
+
+    @Param({"0", "512", "4096"})
+    private int paddingBytes;
+
+    private TokenProvider tokenProvider;
+    private Member member;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secretBytes = new byte[32];
+        new SecureRandom().nextBytes(secretBytes);
+        String secret = TextCodec.BASE64.encode(secretBytes);
+
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(secret);
+        tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+        member = Member.builder().id(memberId).build();
+        token = paddingBytes == 0
+                ? tokenProvider.generateToken(member, Duration.ofDays(1))
+                : paddedToken(secret);
+    }
+
+    private String paddedToken(String secret) {
+        char[] padding = new char[paddingBytes];
+        Arrays.fill(padding, 'x');
+        Date now = new Date();
+        return Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + Duration.ofDays(1).toMillis()))
+                .setSubject(String.valueOf(memberId))
+                .claim("id", memberId)
+                .claim("padding", new String(padding))
+                .signWith(SignatureAlgorithm.HS256, secret)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(member, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Object getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return tokenProvider.getUserId(token);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.oauth2.auth.jwt;
+
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 새 가상 스레드에서 토큰을 발급하고 검증하는 비용을 측정한다.
+ * Mac 과 버퍼를 스레드마다 만들면 gc.alloc.rate.norm 이 연산마다 수 KB 늘어나므로, ScratchPool 의 효과를 여기서 확인한다.
+ * 가상 스레드가 있는 Java 21 에서만 동작하므로 ./gradlew jmh -PvirtualThreads 로 실행할 때만 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadTokenBenchmark {
+
+    private MethodHandle startVirtualThread;
+    private TokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        startVirtualThread = MethodHandles.publicLookup().findStatic(Thread.class, "startVirtualThread",
+                MethodType.methodType(Thread.class, Runnable.class));
+
+        byte[] secretBytes = new byte[32];
+        new SecureRandom().nextBytes(secretBytes);
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(TextCodec.BASE64.encode(secretBytes));
+        tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+        token = tokenProvider.generateToken(1L, Duration.ofDays(1));
+    }
+
+    @Benchmark
+    public void generateTokenOnNewVirtualThread() throws Throwable {
+        runOnNewVirtualThread(() -> tokenProvider.generateToken(1L, Duration.ofDays(1)));
+    }
+
+    @Benchmark
+    public void validateTokenOnNewVirtualThread() throws Throwable {
+        runOnNewVirtualThread(() -> tokenProvider.validateToken(token));
+    }
+
+    private void runOnNewVirtualThread(Runnable task) throws Throwable {
+        Thread thread = (Thread) startVirtualThread.invokeExact(task);
+        thread.join();
+    }
+}
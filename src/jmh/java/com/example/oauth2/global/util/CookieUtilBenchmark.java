@@ -0,0 +1,64 @@
+package com.example.oauth2.global.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청에 담긴 쿠키 개수에 따른 CookieUtil 의 비용을 측정한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CookieUtilBenchmark {
+
+    private static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
+
+    @Param({"1", "10", "50"})
+    private int cookieCount;
+
+    private MockHttpServletRequest request;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        Cookie[] cookies = new Cookie[cookieCount];
+        for (int i = 0; i < cookieCount - 1; i++) {
+            cookies[i] = new Cookie("cookie" + i, "value" + i);
+        }
+        cookies[cookieCount - 1] = new Cookie(REFRESH_TOKEN_COOKIE_NAME, "old");
+        request = new MockHttpServletRequest();
+        request.setCookies(cookies);
+        refreshToken = "x".repeat(200);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse addHttpOnlyCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CookieUtil.addHttpOnlyCookie(response, REFRESH_TOKEN_COOKIE_NAME, refreshToken, 1209600);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse deleteCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        CookieUtil.deleteCookie(request, response, REFRESH_TOKEN_COOKIE_NAME);
+        return response;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.oauth2.member.repository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 수에 따른 재방문 로그인의 DB 비용(회원 조회와 액세스 토큰 갱신)을 비교한다.
+ * scanAndUpdate 는 인덱스 없는 (oauth_id, provider) 조회(기존 방식), indexedLookupAndUpdate 는 유니크 인덱스 조회,
+ * cachedIdUpdate 는 회원 ID 캐시에 적중해서 기본 키로 바로 갱신하는 경우이다.
+ * 10M 은 힙이 수 GB 필요하다. ./gradlew jmh -PjmhIncludes=OauthMemberLookup
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class OauthMemberLookupBenchmark {
+
+    private static final String PROVIDER = "KAKAO";
+
+    @Param({"1000000", "10000000"})
+    private int members;
+
+    private Connection connection;
+    private PreparedStatement scanLookup;
+    private PreparedStatement indexedLookup;
+    private PreparedStatement legacyUpdate;
+    private PreparedStatement update;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:oauth-member-lookup-" + members);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table legacy_member (id bigint primary key, oauth_id varchar(255), provider varchar(255), access_token varchar(255))");
+            statement.execute("create table member (id bigint primary key, oauth_id varchar(255), provider varchar(255), access_token varchar(255))");
+            statement.execute("alter table member add constraint uk_member_oauth_info unique (oauth_id, provider)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement legacyInsert = connection.prepareStatement("insert into legacy_member values (?, ?, ?, ?)");
+             PreparedStatement insert = connection.prepareStatement("insert into member values (?, ?, ?, ?)")) {
+            for (int i = 0; i < members; i++) {
+                bind(legacyInsert, i);
+                legacyInsert.addBatch();
+                bind(insert, i);
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    legacyInsert.executeBatch();
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            legacyInsert.executeBatch();
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        scanLookup = connection.prepareStatement("select id from legacy_member where oauth_id = ? and provider = ?");
+        indexedLookup = connection.prepareStatement("select id from member where oauth_id = ? and provider = ?");
+        legacyUpdate = connection.prepareStatement("update legacy_member set access_token = ? where id = ?");
+        update = connection.prepareStatement("update member set access_token = ? where id = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int scanAndUpdate() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(members);
+        return updateAccessToken(legacyUpdate, memberId(scanLookup, i));
+    }
+
+    @Benchmark
+    public int indexedLookupAndUpdate() throws SQLException {
+        int i = ThreadLocalRandom.current().nextInt(members);
+        return updateAccessToken(update, memberId(indexedLookup, i));
+    }
+
+    @Benchmark
+    public int cachedIdUpdate() throws SQLException {
+        return updateAccessToken(update, ThreadLocalRandom.current().nextInt(members));
+    }
+
+    private static void bind(PreparedStatement statement, int i) throws SQLException {
+        statement.setLong(1, i);
+        statement.setString(2, String.valueOf(i));
+        statement.setString(3, PROVIDER);
+        statement.setString(4, "access-token-" + i);
+    }
+
+    private static long memberId(PreparedStatement statement, int i) throws SQLException {
+        statement.setString(1, String.valueOf(i));
+        statement.setString(2, PROVIDER);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1;
+        }
+    }
+
+    private int updateAccessToken(PreparedStatement statement, long memberId) throws SQLException {
+        statement.setString(1, "access-token-" + ThreadLocalRandom.current().nextInt());
+        statement.setLong(2, memberId);
+        int updated = statement.executeUpdate();
+        connection.commit();
+        return updated;
+    }
+}
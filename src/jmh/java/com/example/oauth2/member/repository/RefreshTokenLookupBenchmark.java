@@ -0,0 +1,114 @@
+package com.example.oauth2.member.repository;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테이블 크기에 따른 리프레시 토큰 조회 비용을 비교한다.
+ * rawTokenScan 은 인덱스 없는 원문 컬럼 조회(기존 방식), tokenHashLookup 은 다이제스트 유니크 인덱스 조회이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class RefreshTokenLookupBenchmark {
+
+    // 발급되는 JWT 와 비슷한 길이로 맞춘다.
+    private static final String TOKEN_PREFIX = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9."
+            + "eyJpYXQiOjE3MDAwMDAwMDAsImV4cCI6MTcwMTIwOTYwMCwic3ViIjoiMSIsImlkIjoxfQ."
+            + "c2lnbmF0dXJlLXNpZ25hdHVyZS1zaWduYXR1cmUtc2ln";
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private Connection connection;
+    private PreparedStatement rawLookup;
+    private PreparedStatement hashLookup;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh-token-lookup-" + rows);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table legacy_refresh_token (id bigint primary key, member_id bigint not null, refresh_token varchar(255) not null)");
+            statement.execute("create table refresh_token (id bigint primary key, member_id bigint not null, token_hash varchar(64) not null)");
+            statement.execute("create unique index uk_refresh_token_hash on refresh_token (token_hash)");
+        }
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement legacyInsert = connection.prepareStatement("insert into legacy_refresh_token values (?, ?, ?)");
+             PreparedStatement insert = connection.prepareStatement("insert into refresh_token values (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                String token = token(i);
+                legacyInsert.setLong(1, i);
+                legacyInsert.setLong(2, i);
+                legacyInsert.setString(3, token);
+                legacyInsert.addBatch();
+                insert.setLong(1, i);
+                insert.setLong(2, i);
+                insert.setString(3, RefreshToken.hash(token));
+                insert.addBatch();
+                if (i % 10_000 == 9_999) {
+                    legacyInsert.executeBatch();
+                    insert.executeBatch();
+                }
+            }
+            legacyInsert.executeBatch();
+            insert.executeBatch();
+        }
+        connection.commit();
+
+        rawLookup = connection.prepareStatement("select member_id from legacy_refresh_token where refresh_token = ?");
+        hashLookup = connection.prepareStatement("select member_id from refresh_token where token_hash = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long rawTokenScan() throws SQLException {
+        rawLookup.setString(1, token(ThreadLocalRandom.current().nextInt(rows)));
+        return memberId(rawLookup);
+    }
+
+    @Benchmark
+    public long tokenHashLookup() throws SQLException {
+        // 해시 계산 비용까지 포함해서 측정한다.
+        hashLookup.setString(1, RefreshToken.hash(token(ThreadLocalRandom.current().nextInt(rows))));
+        return memberId(hashLookup);
+    }
+
+    private static long memberId(PreparedStatement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : -1;
+        }
+    }
+
+    private static String token(int i) {
+        return TOKEN_PREFIX + i;
+    }
+}
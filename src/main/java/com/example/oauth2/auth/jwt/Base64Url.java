@@ -0,0 +1,119 @@
+package com.example.oauth2.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 패딩 없는 base64url 을 미리 준비된 버퍼로 직접 인코딩/디코딩하는 유틸이다.
+ * java.util.Base64 와 달리 결과 배열을 새로 만들지 않는다.
+ */
+final class Base64Url {
+
+    private static final byte[] ENCODE_TABLE = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, -1);
+        for (int i = 0; i < ENCODE_TABLE.length; i++) {
+            DECODE_TABLE[ENCODE_TABLE[i]] = i;
+        }
+    }
+
+    private Base64Url() {
+    }
+
+    /**
+     * 인코딩된 길이로부터 디코딩 결과의 길이를 계산하는 메서드이다.
+     * @return 디코딩 결과 길이, 올바르지 않은 길이면 -1
+     */
+    static int decodedLength(int encodedLength) {
+        int remainder = encodedLength % 4;
+        if (remainder == 1) {
+            return -1;
+        }
+        return encodedLength / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * 바이트 수로부터 패딩 없는 인코딩 결과의 길이를 계산하는 메서드이다.
+     */
+    static int encodedLength(int length) {
+        return length / 3 * 4 + (length % 3 == 0 ? 0 : length % 3 + 1);
+    }
+
+    /**
+     * src 의 [from, to) 구간을 패딩 없이 인코딩해서 dst 의 offset 위치부터 ASCII 로 쓰는 메서드이다.
+     * @return dst 에 쓴 마지막 바이트의 다음 위치
+     */
+    static int encode(byte[] src, int from, int to, byte[] dst, int offset) {
+        int out = offset;
+        int i = from;
+        int fullEnd = from + (to - from) / 3 * 3;
+        while (i < fullEnd) {
+            int bits = (src[i] & 0xff) << 16 | (src[i + 1] & 0xff) << 8 | (src[i + 2] & 0xff);
+            dst[out++] = ENCODE_TABLE[bits >>> 18];
+            dst[out++] = ENCODE_TABLE[(bits >>> 12) & 0x3f];
+            dst[out++] = ENCODE_TABLE[(bits >>> 6) & 0x3f];
+            dst[out++] = ENCODE_TABLE[bits & 0x3f];
+            i += 3;
+        }
+
+        int remainder = to - i;
+        if (remainder > 0) {
+            int bits = (src[i] & 0xff) << 16 | (remainder == 2 ? (src[i + 1] & 0xff) << 8 : 0);
+            dst[out++] = ENCODE_TABLE[bits >>> 18];
+            dst[out++] = ENCODE_TABLE[(bits >>> 12) & 0x3f];
+            if (remainder == 2) {
+                dst[out++] = ENCODE_TABLE[(bits >>> 6) & 0x3f];
+            }
+        }
+        return out;
+    }
+
+    /**
+     * src 의 [from, to) 구간을 디코딩해서 dst 의 앞부분에 쓰는 메서드이다.
+     * @return 디코딩된 바이트 수, 올바르지 않은 문자가 있으면 -1
+     */
+    static int decode(String src, int from, int to, byte[] dst) {
+        int length = decodedLength(to - from);
+        if (length < 0 || length > dst.length) {
+            return -1;
+        }
+
+        int out = 0;
+        int i = from;
+        int fullEnd = from + (to - from) / 4 * 4;
+        while (i < fullEnd) {
+            int bits = (value(src.charAt(i)) << 18) | (value(src.charAt(i + 1)) << 12)
+                    | (value(src.charAt(i + 2)) << 6) | value(src.charAt(i + 3));
+            if (bits < 0) {
+                return -1;
+            }
+            dst[out++] = (byte) (bits >> 16);
+            dst[out++] = (byte) (bits >> 8);
+            dst[out++] = (byte) bits;
+            i += 4;
+        }
+
+        int remainder = to - i;
+        if (remainder >= 2) {
+            int bits = (value(src.charAt(i)) << 18) | (value(src.charAt(i + 1)) << 12)
+                    | (remainder == 3 ? value(src.charAt(i + 2)) << 6 : 0);
+            if (bits < 0) {
+                return -1;
+            }
+            dst[out++] = (byte) (bits >> 16);
+            if (remainder == 3) {
+                dst[out++] = (byte) (bits >> 8);
+            }
+        }
+        return out;
+    }
+
+    private static int value(char c) {
+        // 음수를 돌려주면 OR 연산 결과도 음수가 되어 잘못된 문자를 한 번에 확인할 수 있다.
+        return c < 128 ? DECODE_TABLE[c] : -1;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.global.util.ScratchPool;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TokenProvider 가 발급하는 고정된 형태(HS256 헤더, iat/exp/sub/id/jti 클레임)의 토큰을
+ * jjwt 빌더 없이 직접 만드는 빠른 경로이다.
+ * 헤더는 미리 인코딩해 두고, 클레임은 jjwt 가 직렬화하는 순서 그대로 템플릿에 숫자와 토큰 ID 만 채워 넣는다.
+ * Mac 과 버퍼는 ScratchPool 에서 빌려 재사용하므로 결과 문자열 외에는 객체를 만들지 않으며,
+ * 같은 값을 넣으면 jjwt 가 만드는 토큰과 바이트 단위로 같다.
+ */
+final class FastJwsSigner {
+
+    static final int TOKEN_ID_LENGTH = 16;
+
+    private static final byte[] HEADER = FastJwsVerifier.HEADER_SEGMENT.getBytes(StandardCharsets.US_ASCII);
+
+    // jjwt 의 DefaultClaims 는 값을 넣은 순서대로 직렬화한다. makeToken 의 순서는 iat, exp, sub, id, jti 이다.
+    private static final byte[] IAT_PREFIX = ascii("{\"iat\":");
+    private static final byte[] EXP_PREFIX = ascii(",\"exp\":");
+    private static final byte[] SUB_PREFIX = ascii(",\"sub\":\"");
+    private static final byte[] ID_PREFIX = ascii("\",\"id\":");
+    private static final byte[] JTI_PREFIX = ascii(",\"jti\":\"");
+    private static final byte[] CLAIMS_SUFFIX = ascii("\"}");
+
+    private static final int SIGNATURE_LENGTH = 32;
+
+    // 고정 문자열과 20자리 숫자 네 개, 22자의 토큰 ID 가 충분히 들어가는 크기
+    private static final int MAX_CLAIMS_LENGTH = 192;
+    private static final int MAX_TOKEN_LENGTH = HEADER.length + 1
+            + Base64Url.encodedLength(MAX_CLAIMS_LENGTH) + 1 + Base64Url.encodedLength(SIGNATURE_LENGTH);
+
+    private final ScratchPool<Scratch> scratches;
+
+    FastJwsSigner(SecretKey signingKey) {
+        this.scratches = new ScratchPool<>(() -> new Scratch(signingKey));
+    }
+
+    /**
+     * 새 토큰 ID 로 토큰을 만드는 메서드이다.
+     * @param issuedAt 발급 시각(epoch seconds)
+     * @param expiresAt 만료 시각(epoch seconds)
+     * @param memberId 회원 ID
+     * @return 서명된 토큰
+     */
+    String sign(long issuedAt, long expiresAt, long memberId) {
+        Scratch scratch = scratches.acquire();
+        try {
+            ThreadLocalRandom.current().nextBytes(scratch.tokenId);
+            return sign(scratch, issuedAt, expiresAt, memberId);
+        } finally {
+            scratches.release(scratch);
+        }
+    }
+
+    /**
+     * 주어진 토큰 ID 로 토큰을 만드는 메서드이다. jjwt 와 결과를 비교할 때 사용한다.
+     * @param tokenId 16바이트 토큰 ID, base64url 로 인코딩해서 jti 에 넣는다.
+     */
+    String sign(long issuedAt, long expiresAt, long memberId, byte[] tokenId) {
+        Scratch scratch = scratches.acquire();
+        try {
+            System.arraycopy(tokenId, 0, scratch.tokenId, 0, TOKEN_ID_LENGTH);
+            return sign(scratch, issuedAt, expiresAt, memberId);
+        } finally {
+            scratches.release(scratch);
+        }
+    }
+
+    private static String sign(Scratch scratch, long issuedAt, long expiresAt, long memberId) {
+        // 1. 클레임 JSON
+        byte[] claims = scratch.claims;
+        int length = put(claims, 0, IAT_PREFIX);
+        length = putLong(claims, length, issuedAt);
+        length = put(claims, length, EXP_PREFIX);
+        length = putLong(claims, length, expiresAt);
+        length = put(claims, length, SUB_PREFIX);
+        length = putLong(claims, length, memberId);
+        length = put(claims, length, ID_PREFIX);
+        length = putLong(claims, length, memberId);
+        length = put(claims, length, JTI_PREFIX);
+        length = Base64Url.encode(scratch.tokenId, 0, TOKEN_ID_LENGTH, claims, length);
+        length = put(claims, length, CLAIMS_SUFFIX);
+
+        // 2. header.payload
+        byte[] token = scratch.token;
+        int position = put(token, 0, HEADER);
+        token[position++] = '.';
+        position = Base64Url.encode(claims, 0, length, token, position);
+
+        // 3. 서명
+        try {
+            scratch.mac.update(token, 0, position);
+            scratch.mac.doFinal(scratch.signature, 0);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        token[position++] = '.';
+        position = Base64Url.encode(scratch.signature, 0, SIGNATURE_LENGTH, token, position);
+
+        return new String(token, 0, position, StandardCharsets.US_ASCII);
+    }
+
+    private static int put(byte[] dst, int offset, byte[] src) {
+        System.arraycopy(src, 0, dst, offset, src.length);
+        return offset + src.length;
+    }
+
+    /**
+     * long 값을 10진수 ASCII 로 쓰는 메서드이다. Long.MIN_VALUE 도 다루도록 음수 쪽에서 자릿수를 구한다.
+     */
+    private static int putLong(byte[] dst, int offset, long value) {
+        int position = offset;
+        if (value < 0) {
+            dst[position++] = '-';
+        } else {
+            value = -value;
+        }
+        int start = position;
+        do {
+            dst[position++] = (byte) ('0' - value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        for (int i = start, j = position - 1; i < j; i++, j--) {
+            byte digit = dst[i];
+            dst[i] = dst[j];
+            dst[j] = digit;
+        }
+        return position;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 토큰 하나를 만드는 동안 빌려 쓰는 Mac 과 버퍼이다.
+     */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] tokenId = new byte[TOKEN_ID_LENGTH];
+        private final byte[] claims = new byte[MAX_CLAIMS_LENGTH];
+        private final byte[] token = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+
+        private Scratch(SecretKey signingKey) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(signingKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,302 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.global.util.ScratchPool;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * TokenProvider 가 발급하는 고정된 형태(HS256 헤더, sub/id/iat/exp/jti 클레임)의 토큰만
+ * 토큰 문자열 위에서 직접 검증하는 빠른 경로이다.
+ * Mac 과 버퍼는 ScratchPool 에서 빌려 재사용하므로 검증 과정에서 임시 객체를 만들지 않는다.
+ * 형태를 알아보지 못한 토큰은 null 을 반환해서 jjwt 파서로 넘긴다.
+ */
+final class FastJwsVerifier {
+
+    // makeToken 이 만드는 헤더 {"typ":"JWT","alg":"HS256"} 의 base64url 인코딩
+    static final String HEADER_SEGMENT = Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("{\"typ\":\"JWT\",\"alg\":\"HS256\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private static final int MAX_TOKEN_LENGTH = 4096;
+    private static final int SIGNATURE_LENGTH = 32;
+    private static final int SIGNATURE_SEGMENT_LENGTH = 43;
+
+    private static final byte[] KEY_SUB = ascii("sub");
+    private static final byte[] KEY_ID = ascii("id");
+    private static final byte[] KEY_IAT = ascii("iat");
+    private static final byte[] KEY_EXP = ascii("exp");
+    private static final byte[] KEY_JTI = ascii("jti");
+
+    private final ScratchPool<Scratch> scratches;
+
+    FastJwsVerifier(SecretKey signingKey) {
+        this.scratches = new ScratchPool<>(() -> new Scratch(signingKey));
+    }
+
+    /**
+     * 빠른 경로로 토큰을 검증하는 메서드이다.
+     * @param token JWT 토큰
+     * @param now 현재 시각(epoch millis)
+     * @return 파싱 결과, 빠른 경로가 처리할 수 없는 토큰이면 null
+     */
+    ParsedToken verify(String token, long now) {
+        int length = token.length();
+        int headerEnd = HEADER_SEGMENT.length();
+        if (length > MAX_TOKEN_LENGTH
+                || length <= headerEnd
+                || token.charAt(headerEnd) != '.'
+                || !token.startsWith(HEADER_SEGMENT)) {
+            return null;
+        }
+        int payloadEnd = token.indexOf('.', headerEnd + 1);
+        if (payloadEnd < 0 || length - payloadEnd - 1 != SIGNATURE_SEGMENT_LENGTH) {
+            return null;
+        }
+
+        Scratch scratch = scratches.acquire();
+        try {
+            return verify(scratch, token, payloadEnd, now);
+        } finally {
+            scratches.release(scratch);
+        }
+    }
+
+    private static ParsedToken verify(Scratch scratch, String token, int payloadEnd, long now) {
+        int length = token.length();
+        int headerEnd = HEADER_SEGMENT.length();
+
+        // 서명 대상(header.payload)을 재사용 버퍼에 ASCII 로 복사한다.
+        byte[] input = scratch.input;
+        for (int i = 0; i < payloadEnd; i++) {
+            char c = token.charAt(i);
+            if (c >= 128) {
+                return null;
+            }
+            input[i] = (byte) c;
+        }
+
+        if (Base64Url.decode(token, payloadEnd + 1, length, scratch.signature) != SIGNATURE_LENGTH) {
+            return null;
+        }
+        try {
+            scratch.mac.update(input, 0, payloadEnd);
+            scratch.mac.doFinal(scratch.expected, 0);
+        } catch (GeneralSecurityException e) {
+            return null;
+        }
+        // 상수 시간 비교
+        if (!MessageDigest.isEqual(scratch.expected, scratch.signature)) {
+            return ParsedToken.failure(TokenStatus.INVALID_SIGNATURE);
+        }
+
+        int payloadLength = Base64Url.decode(token, headerEnd + 1, payloadEnd, scratch.payload);
+        if (payloadLength < 0 || !scratch.scanClaims(payloadLength)) {
+            return null;
+        }
+        if (now > scratch.exp * 1000) {
+            return ParsedToken.failure(TokenStatus.EXPIRED);
+        }
+        return ParsedToken.valid(scratch.id, scratch.exp * 1000, scratch.tokenId());
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 한 번의 검증 동안 빌려 쓰는 Mac 과 버퍼, 그리고 클레임 스캔 결과이다.
+     */
+    private static final class Scratch {
+        private final Mac mac;
+        private final byte[] input = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] payload = new byte[MAX_TOKEN_LENGTH];
+        private final byte[] signature = new byte[SIGNATURE_LENGTH];
+        private final byte[] expected = new byte[SIGNATURE_LENGTH];
+
+        private long id;
+        private long exp;
+        private long value;
+        private int jtiStart;
+        private int jtiEnd;
+
+        private int pos;
+        private int end;
+
+        private Scratch(SecretKey signingKey) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA256");
+                this.mac.init(signingKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * payload 를 평평한 JSON 객체로 훑으면서 sub/id/iat/exp/jti 만 읽는다.
+         * iat 는 형태만 확인하고 값은 쓰지 않는다. jjwt 파서도 iat 를 검사하지 않으므로 두 경로의 판단이 같다.
+         * 다른 클레임, 이스케이프 문자, 중복 키 등 예상하지 못한 형태를 만나면 false 를 반환한다.
+         */
+        private boolean scanClaims(int length) {
+            pos = 0;
+            end = length;
+            boolean hasSub = false;
+            boolean hasId = false;
+            boolean hasIat = false;
+            boolean hasExp = false;
+            jtiStart = -1;
+
+            if (!expect('{')) {
+                return false;
+            }
+            while (true) {
+                skipWhitespace();
+                if (!expect('"')) {
+                    return false;
+                }
+                int keyStart = pos;
+                int keyEnd = skipString();
+                if (keyEnd < 0) {
+                    return false;
+                }
+                skipWhitespace();
+                if (!expect(':')) {
+                    return false;
+                }
+                skipWhitespace();
+
+                if (matches(keyStart, keyEnd, KEY_SUB) && !hasSub) {
+                    if (!expect('"') || skipString() < 0) {
+                        return false;
+                    }
+                    hasSub = true;
+                } else if (matches(keyStart, keyEnd, KEY_ID) && !hasId) {
+                    if (!readLong()) {
+                        return false;
+                    }
+                    id = value;
+                    hasId = true;
+                } else if (matches(keyStart, keyEnd, KEY_IAT) && !hasIat) {
+                    if (!readLong()) {
+                        return false;
+                    }
+                    hasIat = true;
+                } else if (matches(keyStart, keyEnd, KEY_EXP) && !hasExp) {
+                    if (!readLong()) {
+                        return false;
+                    }
+                    exp = value;
+                    hasExp = true;
+                } else if (matches(keyStart, keyEnd, KEY_JTI) && jtiStart < 0) {
+                    if (!expect('"')) {
+                        return false;
+                    }
+                    jtiStart = pos;
+                    jtiEnd = skipString();
+                    if (jtiEnd < 0) {
+                        return false;
+                    }
+                } else {
+                    return false;
+                }
+
+                skipWhitespace();
+                if (pos >= end) {
+                    return false;
+                }
+                byte next = payload[pos++];
+                if (next == '}') {
+                    break;
+                }
+                if (next != ',') {
+                    return false;
+                }
+            }
+            skipWhitespace();
+            return pos == end && hasId && hasExp && exp <= Long.MAX_VALUE / 1000;
+        }
+
+        private String tokenId() {
+            return jtiStart < 0 ? null : new String(payload, jtiStart, jtiEnd - jtiStart, StandardCharsets.US_ASCII);
+        }
+
+        private boolean readLong() {
+            int start = pos;
+            boolean negative = pos < end && payload[pos] == '-';
+            if (negative) {
+                pos++;
+            }
+            long result = 0;
+            int digits = 0;
+            while (pos < end && payload[pos] >= '0' && payload[pos] <= '9') {
+                int digit = payload[pos] - '0';
+                if (result > (Long.MAX_VALUE - digit) / 10) {
+                    return false;
+                }
+                result = result * 10 + digit;
+                pos++;
+                digits++;
+            }
+            if (digits == 0 || digits > 19 || pos - start > 20) {
+                return false;
+            }
+            // 소수나 지수 표기는 빠른 경로에서 다루지 않는다.
+            if (pos < end && (payload[pos] == '.' || payload[pos] == 'e' || payload[pos] == 'E')) {
+                return false;
+            }
+            value = negative ? -result : result;
+            return true;
+        }
+
+        /**
+         * 여는 따옴표 다음부터 닫는 따옴표까지 건너뛰는 메서드이다.
+         * @return 닫는 따옴표의 위치, 이스케이프가 있거나 닫히지 않으면 -1
+         */
+        private int skipString() {
+            while (pos < end) {
+                byte b = payload[pos];
+                if (b == '"') {
+                    return pos++;
+                }
+                if (b == '\\' || b < 0x20) {
+                    return -1;
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        private boolean expect(char c) {
+            if (pos < end && payload[pos] == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipWhitespace() {
+            while (pos < end) {
+                byte b = payload[pos];
+                if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                    return;
+                }
+                pos++;
+            }
+        }
+
+        private boolean matches(int start, int endExclusive, byte[] key) {
+            if (endExclusive - start != key.length) {
+                return false;
+            }
+            for (int i = 0; i < key.length; i++) {
+                if (payload[start + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
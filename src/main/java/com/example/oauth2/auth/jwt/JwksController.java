@@ -0,0 +1,29 @@
+package com.example.oauth2.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RequiredArgsConstructor
+@RestController
+public class JwksController {
+    private final JwtKeySet jwtKeySet;
+
+    /**
+     * 다른 서비스가 토큰을 직접 검증할 수 있도록 공개키 목록을 JWKS 형식으로 반환한다.
+     * 본문은 시작할 때 만들어 둔 것이며, If-None-Match 가 ETag 와 같으면 304 를 반환한다.
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> getJwks() {
+        return ResponseEntity.ok()
+                .eTag(jwtKeySet.getJwksEtag())
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(jwtKeySet.getJwksJson());
+    }
+}
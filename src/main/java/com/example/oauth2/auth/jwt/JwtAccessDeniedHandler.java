@@ -1,5 +1,7 @@
 package com.example.oauth2.auth.jwt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -11,8 +13,18 @@ import java.io.IOException;
 
 @Component
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+    private final Counter counter;
+
+    public JwtAccessDeniedHandler(MeterRegistry meterRegistry) {
+        this.counter = Counter.builder("auth.rejections")
+                .description("Requests rejected by Spring Security, by reason")
+                .tag("reason", "access_denied")
+                .register(meterRegistry);
+    }
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException, ServletException {
+        counter.increment();
         // 필요한 권한 없이 접근하려 할 때 403 에러 반환
         response.sendError(HttpServletResponse.SC_FORBIDDEN);
     }
@@ -1,5 +1,7 @@
 package com.example.oauth2.auth.jwt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -11,8 +13,18 @@ import java.io.IOException;
 
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+    private final Counter counter;
+
+    public JwtAuthenticationEntryPoint(MeterRegistry meterRegistry) {
+        this.counter = Counter.builder("auth.rejections")
+                .description("Requests rejected by Spring Security, by reason")
+                .tag("reason", "unauthenticated")
+                .register(meterRegistry);
+    }
+
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response, AuthenticationException authException) throws IOException, ServletException {
+        counter.increment();
         // 유효한 자격증명을 제공하지 않고 접근하려 할 때 401 에러 반환
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
     }
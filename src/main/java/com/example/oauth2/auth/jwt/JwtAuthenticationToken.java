@@ -0,0 +1,36 @@
+package com.example.oauth2.auth.jwt;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+
+/**
+ * 검증된 JWT 로 만든 인증 정보이다. 폐기 여부 확인과 캐시 만료에 쓰도록 jti 와 만료 시각을 함께 가진다.
+ */
+@Getter
+public class JwtAuthenticationToken extends AbstractAuthenticationToken {
+
+    private final MemberPrincipal principal;
+
+    private final String token;
+
+    private final String tokenId;
+
+    private final long expiresAt;
+
+    public JwtAuthenticationToken(ParsedToken parsedToken, String token, Collection<? extends GrantedAuthority> authorities) {
+        super(authorities);
+        this.principal = parsedToken.getPrincipal();
+        this.token = token;
+        this.tokenId = parsedToken.getTokenId();
+        this.expiresAt = parsedToken.getExpiresAt();
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return token;
+    }
+}
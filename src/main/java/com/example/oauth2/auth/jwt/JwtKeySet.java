@@ -0,0 +1,207 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.global.util.DigestUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 시작할 때 한 번 만들어 두는 서명/검증 키 모음이다.
+ * HS256 이면 비밀값 하나를, RS256/ES256 이면 kid 별 공개키와 현재 서명에 쓰는 개인키를 가진다.
+ */
+@Slf4j
+@Getter
+@Component
+public class JwtKeySet {
+
+    private static final Base64.Encoder BASE64_URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SignatureAlgorithm algorithm;
+
+    private final String activeKid;
+
+    private final Key signingKey;
+
+    private final Map<String, Key> verificationKeys;
+
+    // /.well-known/jwks.json 응답 본문과 ETag 는 미리 만들어 둔다.
+    private final String jwksJson;
+
+    private final String jwksEtag;
+
+    public JwtKeySet(JwtProperties jwtProperties) {
+        this.algorithm = SignatureAlgorithm.forName(jwtProperties.getAlgorithm());
+
+        if (algorithm == SignatureAlgorithm.HS256) {
+            this.activeKid = null;
+            this.signingKey = new SecretKeySpec(TextCodec.BASE64.decode(jwtProperties.getSecret()), algorithm.getJcaName());
+            this.verificationKeys = Collections.emptyMap();
+        } else if (algorithm == SignatureAlgorithm.RS256 || algorithm == SignatureAlgorithm.ES256) {
+            Map<String, Key> publicKeys = new HashMap<>();
+            PrivateKey privateKey = null;
+            String kid = jwtProperties.getActiveKid();
+
+            for (JwtProperties.Key key : jwtProperties.getKeys()) {
+                publicKeys.put(key.getKid(), parsePublicKey(key.getPublicKey()));
+                if (key.getKid().equals(kid)) {
+                    privateKey = parsePrivateKey(key.getPrivateKey());
+                }
+            }
+            if (privateKey == null) {
+                if (!publicKeys.isEmpty()) {
+                    throw new IllegalStateException("No private key configured for active kid: " + kid);
+                }
+                // 키를 설정하지 않았으면 임시 키를 만든다. 재시작하면 이전 토큰은 검증할 수 없다.
+                KeyPair keyPair = generateKeyPair();
+                kid = UUID.randomUUID().toString();
+                privateKey = keyPair.getPrivate();
+                publicKeys.put(kid, keyPair.getPublic());
+                log.warn("No {} keys configured, generated an ephemeral key pair (kid={})", algorithm, kid);
+            }
+
+            this.activeKid = kid;
+            this.signingKey = privateKey;
+            this.verificationKeys = Collections.unmodifiableMap(publicKeys);
+        } else {
+            throw new IllegalArgumentException("Unsupported JWT algorithm: " + algorithm);
+        }
+
+        this.jwksJson = toJwks();
+        this.jwksEtag = "\"" + BASE64_URL.encodeToString(DigestUtil.sha256(jwksJson)) + "\"";
+    }
+
+    public boolean isSymmetric() {
+        return algorithm == SignatureAlgorithm.HS256;
+    }
+
+    /**
+     * kid 로 검증 키를 찾는 메서드이다.
+     * @param kid 토큰 헤더의 kid
+     * @return 검증 키, 없으면 null
+     */
+    public Key findVerificationKey(String kid) {
+        return kid == null ? null : verificationKeys.get(kid);
+    }
+
+    private String toJwks() {
+        // 대칭 키는 절대 공개하지 않는다.
+        List<Map<String, String>> jwks = new ArrayList<>();
+        for (Map.Entry<String, Key> entry : verificationKeys.entrySet()) {
+            jwks.add(toJwk(entry.getKey(), entry.getValue()));
+        }
+        try {
+            return new ObjectMapper().writeValueAsString(Collections.singletonMap("keys", jwks));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Map<String, String> toJwk(String kid, Key key) {
+        Map<String, String> jwk = new LinkedHashMap<>();
+        if (key instanceof RSAPublicKey) {
+            RSAPublicKey rsaKey = (RSAPublicKey) key;
+            jwk.put("kty", "RSA");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm.getValue());
+            jwk.put("n", BASE64_URL.encodeToString(unsigned(rsaKey.getModulus(), 0)));
+            jwk.put("e", BASE64_URL.encodeToString(unsigned(rsaKey.getPublicExponent(), 0)));
+        } else {
+            ECPublicKey ecKey = (ECPublicKey) key;
+            jwk.put("kty", "EC");
+            jwk.put("kid", kid);
+            jwk.put("use", "sig");
+            jwk.put("alg", algorithm.getValue());
+            jwk.put("crv", "P-256");
+            jwk.put("x", BASE64_URL.encodeToString(unsigned(ecKey.getW().getAffineX(), 32)));
+            jwk.put("y", BASE64_URL.encodeToString(unsigned(ecKey.getW().getAffineY(), 32)));
+        }
+        return jwk;
+    }
+
+    /**
+     * BigInteger 를 부호 바이트 없이 빅엔디언으로 변환하는 메서드이다.
+     * @param length 고정 길이, 0 이면 최소 길이
+     */
+    private static byte[] unsigned(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > 1 && bytes[0] == 0 ? 1 : 0;
+        int size = Math.max(bytes.length - start, length);
+        byte[] result = new byte[size];
+        System.arraycopy(bytes, start, result, size - (bytes.length - start), bytes.length - start);
+        return result;
+    }
+
+    private KeyPair generateKeyPair() {
+        try {
+            if (algorithm == SignatureAlgorithm.RS256) {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                return generator.generateKeyPair();
+            }
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private PublicKey parsePublicKey(String encoded) {
+        if (encoded == null) {
+            throw new IllegalStateException("Public key is required for every configured JWT key");
+        }
+        try {
+            return keyFactory().generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid public key", e);
+        }
+    }
+
+    private PrivateKey parsePrivateKey(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        try {
+            return keyFactory().generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Invalid private key", e);
+        }
+    }
+
+    private KeyFactory keyFactory() throws GeneralSecurityException {
+        return KeyFactory.getInstance(algorithm == SignatureAlgorithm.RS256 ? "RSA" : "EC");
+    }
+
+    private static byte[] decodePem(String encoded) {
+        String base64 = encoded.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Setter
 @Getter
 @Component
@@ -12,4 +15,23 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
     private String header;
     private String secret;
+
+    // 서명 알고리즘 : HS256(기본값), RS256, ES256
+    private String algorithm = "HS256";
+
+    // RS256/ES256 에서 새 토큰 서명에 사용할 키의 kid
+    private String activeKid;
+
+    // RS256/ES256 키 목록, 교체된 키는 공개키만 남겨 두면 검증에만 사용된다.
+    private List<Key> keys = new ArrayList<>();
+
+    @Setter
+    @Getter
+    public static class Key {
+        private String kid;
+        // PKCS#8 DER 의 base64 또는 PEM
+        private String privateKey;
+        // X.509 DER 의 base64 또는 PEM
+        private String publicKey;
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.oauth2.auth.jwt;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * 토큰으로 인증된 회원을 나타내는 불변 Principal 이다.
+ */
+@Getter
+@EqualsAndHashCode
+public final class MemberPrincipal implements Principal, Serializable {
+
+    private final long memberId;
+
+    public MemberPrincipal(long memberId) {
+        this.memberId = memberId;
+    }
+
+    @Override
+    public String getName() {
+        return Long.toString(memberId);
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
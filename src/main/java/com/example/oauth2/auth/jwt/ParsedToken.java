@@ -0,0 +1,59 @@
+package com.example.oauth2.auth.jwt;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 토큰 파싱 결과이다. 유효한 토큰이면 회원 정보와 만료 시각을, 아니면 실패 사유를 담는다.
+ */
+@Getter
+public final class ParsedToken {
+
+    // 실패 결과는 상태별로 하나씩만 만들어 재사용한다.
+    private static final Map<TokenStatus, ParsedToken> FAILURES = new EnumMap<>(TokenStatus.class);
+
+    static {
+        for (TokenStatus status : TokenStatus.values()) {
+            if (status != TokenStatus.VALID) {
+                FAILURES.put(status, new ParsedToken(status, null, 0L, null));
+            }
+        }
+    }
+
+    private final TokenStatus status;
+
+    private final MemberPrincipal principal;
+
+    private final long expiresAt;
+
+    // 토큰의 jti, 없는 토큰이면 null
+    private final String tokenId;
+
+    private ParsedToken(TokenStatus status, MemberPrincipal principal, long expiresAt, String tokenId) {
+        this.status = status;
+        this.principal = principal;
+        this.expiresAt = expiresAt;
+        this.tokenId = tokenId;
+    }
+
+    public static ParsedToken valid(long memberId, long expiresAt, String tokenId) {
+        return new ParsedToken(TokenStatus.VALID, new MemberPrincipal(memberId), expiresAt, tokenId);
+    }
+
+    public static ParsedToken failure(TokenStatus status) {
+        if (status == TokenStatus.VALID) {
+            throw new IllegalArgumentException("VALID is not a failure status");
+        }
+        return FAILURES.get(status);
+    }
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+
+    public long getMemberId() {
+        return principal.getMemberId();
+    }
+}
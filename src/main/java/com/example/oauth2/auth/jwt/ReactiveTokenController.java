@@ -0,0 +1,49 @@
+package com.example.oauth2.auth.jwt;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * TokenController 의 WebFlux 버전이다. DB 에 접근하는 작업은 JPA 스케줄러에서 실행한다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveTokenController {
+    private final TokenService tokenService;
+
+    private final Scheduler jpaScheduler;
+
+    public ReactiveTokenController(TokenService tokenService,
+                                   @Qualifier("jpaScheduler") Scheduler jpaScheduler) {
+        this.tokenService = tokenService;
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    @PostMapping("/api/auth/refresh")
+    public Mono<ResponseEntity<CreateAccessTokenResponse>> createNewAccessToken(@RequestBody CreateAccessTokenRequest request) {
+        return Mono.fromCallable(() -> tokenService.createNewAccessToken(request.getRefreshToken()))
+                .subscribeOn(jpaScheduler)
+                .map(newAccessToken -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new CreateAccessTokenResponse(newAccessToken)));
+    }
+
+    @PostMapping("/api/auth/logout")
+    public Mono<ResponseEntity<Void>> logout(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .filter(JwtAuthenticationToken.class::isInstance)
+                .cast(JwtAuthenticationToken.class)
+                .flatMap(authentication -> Mono.fromRunnable(() -> tokenService.logout(authentication))
+                        .subscribeOn(jpaScheduler)
+                        .thenReturn(new ResponseEntity<Void>(HttpStatus.NO_CONTENT)))
+                // 유효한 액세스 토큰 없이 요청하면 폐기할 토큰이 없다.
+                .defaultIfEmpty(new ResponseEntity<>(HttpStatus.UNAUTHORIZED));
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.oauth2.auth.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * TokenAuthenticationFilter 의 WebFlux 버전이다.
+ * 토큰 검증은 메모리에서만 일어나므로 이벤트 루프 스레드에서 바로 처리한다.
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationWebFilter implements WebFilter {
+    private final TokenAuthenticator tokenAuthenticator;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // 요청 헤더의 Authorization 키의 값 조회
+        String authorizationHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
+        Authentication authentication = tokenAuthenticator.authenticate(authorizationHeader);
+        if (authentication == null) {
+            return chain.filter(exchange);
+        }
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+}
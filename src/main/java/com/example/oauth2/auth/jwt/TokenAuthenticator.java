@@ -0,0 +1,98 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.auth.revocation.TokenRevocationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Authorization 헤더의 액세스 토큰을 인증 정보로 바꾼다.
+ * 서블릿 필터와 WebFlux 필터가 함께 사용하며, 블로킹 호출 없이 메모리에서만 동작한다.
+ */
+@Component
+public class TokenAuthenticator {
+    private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final static String TOKEN_PREFIX = "Bearer ";
+
+    // 인증 결과별 요청 수
+    private final Counter missingCounter;
+    private final Counter invalidCounter;
+    private final Counter expiredCounter;
+    private final Counter revokedCounter;
+    private final Counter okCounter;
+
+    public TokenAuthenticator(TokenProvider tokenProvider,
+                              VerifiedTokenCache verifiedTokenCache,
+                              TokenRevocationService tokenRevocationService,
+                              MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.missingCounter = outcomeCounter("missing", meterRegistry);
+        this.invalidCounter = outcomeCounter("invalid", meterRegistry);
+        this.expiredCounter = outcomeCounter("expired", meterRegistry);
+        this.revokedCounter = outcomeCounter("revoked", meterRegistry);
+        this.okCounter = outcomeCounter("ok", meterRegistry);
+    }
+
+    private static Counter outcomeCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("auth.filter.requests")
+                .description("Requests seen by the token authentication filter, by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Authorization 헤더 값으로 인증 정보를 만드는 메서드이다.
+     * @param authorizationHeader Authorization 헤더 값
+     * @return 인증 정보, 토큰이 없거나 유효하지 않으면 null
+     */
+    public JwtAuthenticationToken authenticate(String authorizationHeader) {
+        // 가져온 값에서 접두사 제거
+        String token = getAccessToken(authorizationHeader);
+        if (token == null) {
+            missingCounter.increment();
+            return null;
+        }
+
+        // 캐시에 검증된 토큰이 있으면 그대로 사용하고, 없으면 토큰을 검증한 뒤 캐시에 저장한다.
+        JwtAuthenticationToken authentication = verifiedTokenCache.get(token);
+        if (authentication == null) {
+            // 토큰을 한 번만 파싱해서 검증과 인증 정보 생성에 함께 사용한다.
+            ParsedToken parsedToken = tokenProvider.parse(token);
+            if (!parsedToken.isValid()) {
+                countFailure(parsedToken.getStatus());
+                return null;
+            }
+            authentication = tokenProvider.getAuthentication(parsedToken, token);
+            verifiedTokenCache.put(token, authentication);
+        }
+
+        // 캐시에 있던 토큰이라도 폐기되었으면 인증하지 않는다.
+        if (tokenRevocationService.isRevoked(authentication.getTokenId())) {
+            revokedCounter.increment();
+            return null;
+        }
+        okCounter.increment();
+        return authentication;
+    }
+
+    private void countFailure(TokenStatus status) {
+        if (status == TokenStatus.EXPIRED) {
+            expiredCounter.increment();
+        } else if (status == TokenStatus.MISSING) {
+            missingCounter.increment();
+        } else {
+            invalidCounter.increment();
+        }
+    }
+
+    private String getAccessToken(String authorizationHeader) {
+        if (authorizationHeader != null && authorizationHeader.startsWith(TOKEN_PREFIX)) {
+            return authorizationHeader.substring(TOKEN_PREFIX.length());
+        }
+        return null;
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.oauth2.auth.jwt;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 @RequiredArgsConstructor
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class TokenController {
     private final TokenService tokenService;
 
@@ -19,4 +21,14 @@ public class TokenController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(new CreateAccessTokenResponse(newAccessToken));
     }
+
+    @PostMapping("/api/auth/logout")
+    public ResponseEntity<Void> logout(JwtAuthenticationToken authentication) {
+        // 유효한 액세스 토큰 없이 요청하면 폐기할 토큰이 없다.
+        if (authentication == null) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+        tokenService.logout(authentication);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
 }
@@ -2,49 +2,141 @@ package com.example.oauth2.auth.jwt;
 
 import com.example.oauth2.member.domain.Member;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import io.jsonwebtoken.SignatureException;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
+import java.security.Key;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 @Service
 public class TokenProvider {
 
-    private final JwtProperties jwtProperties;
+    private static final Set<GrantedAuthority> AUTHORITIES = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final JwtKeySet jwtKeySet;
+
+    private final JwtParser jwtParser;
+
+    // HS256 으로 발급한 토큰에만 사용하는 빠른 검증 경로, 비대칭 서명이면 null
+    private final FastJwsVerifier fastJwsVerifier;
+
+    // HS256 토큰을 jjwt 빌더 없이 만드는 빠른 발급 경로, 비대칭 서명이면 null
+    private final FastJwsSigner fastJwsSigner;
+
+    private final Timer signTimer;
+
+    // 결과별 파싱 시간, 태그 조회 비용을 없애려고 미리 만들어 둔다.
+    private final Map<TokenStatus, Timer> parseTimers = new EnumMap<>(TokenStatus.class);
+
+    private final Timer fastVerifyTimer;
+
+    private final Timer jjwtVerifyTimer;
+
+    public TokenProvider(JwtKeySet jwtKeySet, MeterRegistry meterRegistry) {
+        // 키는 시작할 때 한 번만 만들어 두고, 파서도 재사용한다.
+        this.jwtKeySet = jwtKeySet;
+        if (jwtKeySet.isSymmetric()) {
+            this.jwtParser = Jwts.parser().setSigningKey(jwtKeySet.getSigningKey());
+            this.fastJwsVerifier = new FastJwsVerifier((SecretKey) jwtKeySet.getSigningKey());
+            this.fastJwsSigner = new FastJwsSigner((SecretKey) jwtKeySet.getSigningKey());
+        } else {
+            this.jwtParser = Jwts.parser().setSigningKeyResolver(new KidKeyResolver());
+            this.fastJwsVerifier = null;
+            this.fastJwsSigner = null;
+        }
+
+        String algorithm = jwtKeySet.getAlgorithm().getValue();
+        this.signTimer = timer("jwt.sign", "JWT signing time")
+                .tag("algorithm", algorithm)
+                .register(meterRegistry);
+        for (TokenStatus status : TokenStatus.values()) {
+            parseTimers.put(status, timer("jwt.parse", "JWT parse and validation time")
+                    .tag("status", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        this.fastVerifyTimer = timer("jwt.verify", "JWT signature verification time")
+                .tag("path", "fast")
+                .register(meterRegistry);
+        this.jjwtVerifyTimer = timer("jwt.verify", "JWT signature verification time")
+                .tag("path", "jjwt")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 서버에서 집계할 수 있는 히스토그램을 내보내는 타이머이다. 버킷 범위를 좁혀서 기록 비용을 줄인다.
+     */
+    private static Timer.Builder timer(String name, String description) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofMillis(50));
+    }
 
     public String generateToken(Member member, Duration expiredAt) {
-        Date now = new Date();
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), member);
+        return generateToken(member.getId(), expiredAt);
+    }
+
+    public String generateToken(long memberId, Duration expiredAt) {
+        long startedAt = System.nanoTime();
+        long now = System.currentTimeMillis();
+        String token = makeToken(now, now + expiredAt.toMillis(), memberId);
+        signTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return token;
     }
 
     /**
      * JWT 토큰을 생성하는 메서드이다.
-     * @param expiry 토큰의 만료 시간
-     * @param member 회원 정보
+     * HS256 이면 jjwt 와 같은 토큰을 빠른 경로로 만들고, 비대칭 서명이면 jjwt 빌더를 사용한다.
+     * @param issuedAt 토큰의 발급 시간(epoch millis)
+     * @param expiry 토큰의 만료 시간(epoch millis)
+     * @param memberId 회원 ID
      * @return 생성된 토큰
      */
-    private String makeToken(Date expiry, Member member) {
-        Date now = new Date();
-
-        return Jwts.builder()
-                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)   // 헤더 typ(타입) : JWT
-                .setIssuedAt(now)                               // 내용 iat(발급 일시) : 현재 시간
-                .setExpiration(expiry)                          // 내용 exp(만료일시) : expiry 멤버 변수값
-                .setSubject(String.valueOf(member.getId()))     // 내용 sub(토큰 제목) : 회원 ID
-                .claim("id", member.getId())              // 클레임 id : 회원 ID
-                // 서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화
-                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecret())
+    private String makeToken(long issuedAt, long expiry, long memberId) {
+        if (fastJwsSigner != null) {
+            // jjwt 와 마찬가지로 iat, exp 는 초 단위로 내림한다.
+            return fastJwsSigner.sign(issuedAt / 1000, expiry / 1000, memberId);
+        }
+
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE);  // 헤더 typ(타입) : JWT
+        if (!jwtKeySet.isSymmetric()) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, jwtKeySet.getActiveKid()); // 헤더 kid : 서명 키 ID
+        }
+
+        return builder
+                .setIssuedAt(new Date(issuedAt))                // 내용 iat(발급 일시) : 현재 시간
+                .setExpiration(new Date(expiry))                // 내용 exp(만료일시) : expiry 멤버 변수값
+                .setSubject(String.valueOf(memberId))           // 내용 sub(토큰 제목) : 회원 ID
+                .claim("id", memberId)                    // 클레임 id : 회원 ID
+                .setId(newTokenId())                            // 내용 jti(토큰 ID) : 폐기할 때 사용
+                // 서명 : 설정한 알고리즘(기본 HS256)과 현재 서명 키로 암호화
+                .signWith(jwtKeySet.getAlgorithm(), jwtKeySet.getSigningKey())
                 .compact();
     }
 
@@ -54,14 +146,67 @@ public class TokenProvider {
      * @return 토큰 유효 여부
      */
     public boolean validateToken(String token) {
+        return parse(token).isValid();
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱하고 검증해서 결과를 반환하는 메서드이다.
+     * 실패한 경우 예외를 던지지 않고 실패 사유를 담은 결과를 반환한다.
+     * @param token 검증할 JWT 토큰
+     * @return 파싱 결과
+     */
+    public ParsedToken parse(String token) {
+        long startedAt = System.nanoTime();
+        ParsedToken parsedToken = doParse(token);
+        parseTimers.get(parsedToken.getStatus()).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return parsedToken;
+    }
+
+    private ParsedToken doParse(String token) {
+        if (token == null || token.isEmpty()) {
+            return ParsedToken.failure(TokenStatus.MISSING);
+        }
+        // 형태가 맞지 않는 토큰은 파서까지 보내지 않는다.
+        if (!hasJwsShape(token)) {
+            return ParsedToken.failure(TokenStatus.MALFORMED);
+        }
+        // 직접 발급한 형태의 토큰은 빠른 경로로 검증하고, 그 밖의 토큰만 jjwt 로 파싱한다.
+        if (fastJwsVerifier != null) {
+            long startedAt = System.nanoTime();
+            ParsedToken fastResult = fastJwsVerifier.verify(token, System.currentTimeMillis());
+            if (fastResult != null) {
+                fastVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return fastResult;
+            }
+        }
+
+        Number memberId;
+        Date expiration;
+        String tokenId;
+        long startedAt = System.nanoTime();
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecret())   // 비밀값으로 복호화
-                    .parseClaimsJws(token);
-            return true;
-        } catch (Exception e) { // 복호화 과정에서 에러가 나면 유효하지 않은 토큰이다.
-            return false;
+            Claims claims = jwtParser
+                    .parseClaimsJws(token)  // 비밀값으로 복호화
+                    .getBody();
+            memberId = claims.get("id", Number.class);
+            expiration = claims.getExpiration();
+            tokenId = claims.getId();
+        } catch (ExpiredJwtException e) {
+            return ParsedToken.failure(TokenStatus.EXPIRED);
+        } catch (SignatureException e) {
+            return ParsedToken.failure(TokenStatus.INVALID_SIGNATURE);
+        } catch (UnsupportedJwtException e) {
+            return ParsedToken.failure(TokenStatus.UNSUPPORTED);
+        } catch (RuntimeException e) { // 그 외 복호화 과정의 에러는 형식이 잘못된 토큰이다.
+            return ParsedToken.failure(TokenStatus.MALFORMED);
+        } finally {
+            jjwtVerifyTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (memberId == null || expiration == null) {
+            return ParsedToken.failure(TokenStatus.MALFORMED);
         }
+        return ParsedToken.valid(memberId.longValue(), expiration.getTime(), tokenId);
     }
 
     /**
@@ -70,10 +215,21 @@ public class TokenProvider {
      * @return 인증 정보를 담은 Authentication 객체
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+        ParsedToken parsedToken = parse(token);
+        if (!parsedToken.isValid()) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        return getAuthentication(parsedToken, token);
+    }
 
-        return new UsernamePasswordAuthenticationToken(new User(claims.getSubject(), "", authorities), token, authorities);
+    /**
+     * 검증된 파싱 결과로 인증 정보를 만드는 메서드이다.
+     * @param parsedToken 유효한 토큰의 파싱 결과
+     * @param token 인증된 회원의 토큰
+     * @return 인증 정보를 담은 Authentication 객체
+     */
+    public JwtAuthenticationToken getAuthentication(ParsedToken parsedToken, String token) {
+        return new JwtAuthenticationToken(parsedToken, token, AUTHORITIES);
     }
 
     /**
@@ -82,20 +238,50 @@ public class TokenProvider {
      * @return 회원 ID
      */
     public Long getUserId(String token) {
-        Claims claims = getClaims(token);
-        return claims.get("id", Long.class);
+        ParsedToken parsedToken = parse(token);
+        if (!parsedToken.isValid()) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+        return parsedToken.getMemberId();
     }
 
     /**
-     * 주어진 토큰에서 클레임을 조회하는 메서드이다.
-     * @param token JWT 토큰
-     * @return 클레임 객체
+     * 128비트 난수를 base64url 로 인코딩한 토큰 ID 를 만드는 메서드이다.
      */
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtProperties.getSecret())
-                .parseClaimsJws(token)
-                .getBody();
+    private static String newTokenId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        byte[] bytes = new byte[FastJwsSigner.TOKEN_ID_LENGTH];
+        random.nextBytes(bytes);
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
     }
 
+    /**
+     * 토큰이 점(.)으로 구분된 세 부분으로 이루어져 있는지 확인하는 메서드이다.
+     */
+    private boolean hasJwsShape(String token) {
+        int dots = 0;
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                dots++;
+            } else if (c <= ' ') {
+                return false;
+            }
+        }
+        return dots == 2;
+    }
+
+    /**
+     * 토큰 헤더의 kid 로 미리 읽어 둔 공개키를 찾는다. 알고리즘이 다르거나 모르는 kid 면 거부한다.
+     */
+    private class KidKeyResolver extends SigningKeyResolverAdapter {
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            Key key = jwtKeySet.findVerificationKey(header.getKeyId());
+            if (key == null || !jwtKeySet.getAlgorithm().getValue().equals(header.getAlgorithm())) {
+                throw new SignatureException("Unknown signing key: " + header.getKeyId());
+            }
+            return key;
+        }
+    }
 }
@@ -1,7 +1,6 @@
 package com.example.oauth2.auth.jwt;
 
-import com.example.oauth2.member.domain.Member;
-import com.example.oauth2.member.service.MemberService;
+import com.example.oauth2.auth.revocation.TokenRevocationService;
 import com.example.oauth2.member.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -13,17 +12,36 @@ import java.time.Duration;
 public class TokenService {
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final MemberService memberService;
+    private final TokenRevocationService tokenRevocationService;
 
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰을 발급하는 메서드이다.
+     * 회원 ID 는 토큰 해시 인덱스를 타는 프로젝션 쿼리 한 번(메모리 저장소에 있으면 쿼리 없이)으로 확인하고,
+     * 회원 엔티티는 읽지 않는다.
+     * @param refreshToken 리프레시 토큰
+     * @return 새 액세스 토큰
+     */
     public String createNewAccessToken(String refreshToken) {
         // 토큰 유효성 검사에 실패하면 예외 발생
-        if (!tokenProvider.validateToken(refreshToken)) {
+        ParsedToken parsedToken = tokenProvider.parse(refreshToken);
+        if (!parsedToken.isValid()) {
             throw new IllegalArgumentException("Unexpected token");
         }
 
-        Long memberId = refreshTokenService.findByRefreshToken(refreshToken).getMemberId();
-        Member member = memberService.findById(memberId);
+        // 저장된 토큰의 주인과 토큰에 담긴 회원 ID 가 다르면 거부한다. 로그아웃한 회원은 저장된 토큰이 없다.
+        long memberId = refreshTokenService.findMemberIdByRefreshToken(refreshToken);
+        if (memberId != parsedToken.getMemberId()) {
+            throw new IllegalArgumentException("Unexpected token");
+        }
+
+        return tokenProvider.generateToken(memberId, Duration.ofHours(2));
+    }
 
-        return tokenProvider.generateToken(member, Duration.ofHours(2));
+    /**
+     * 인증에 사용한 액세스 토큰을 만료 시각까지 폐기하고, 회원의 리프레시 토큰을 지워서 로그아웃하는 메서드이다.
+     */
+    public void logout(JwtAuthenticationToken authentication) {
+        tokenRevocationService.revoke(authentication.getTokenId(), authentication.getExpiresAt());
+        refreshTokenService.deleteRefreshToken(authentication.getPrincipal().getMemberId());
     }
 }
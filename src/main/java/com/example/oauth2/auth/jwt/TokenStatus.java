@@ -0,0 +1,10 @@
+package com.example.oauth2.auth.jwt;
+
+public enum TokenStatus {
+    VALID,
+    MISSING,
+    MALFORMED,
+    EXPIRED,
+    INVALID_SIGNATURE,
+    UNSUPPORTED
+}
@@ -0,0 +1,135 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.global.util.DigestUtil;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 마친 액세스 토큰의 인증 정보를 보관하는 캐시이다.
+ * 같은 토큰이 반복해서 들어오면 JWT 파싱과 HMAC 검증을 건너뛴다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+
+        resultCounter("hit", hits, meterRegistry);
+        resultCounter("miss", misses, meterRegistry);
+        Gauge.builder("auth.token.cache.size", entries, Map::size)
+                .description("Verified access tokens held in the cache")
+                .register(meterRegistry);
+    }
+
+    private static void resultCounter(String result, LongAdder adder, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("auth.token.cache", adder, LongAdder::sum)
+                .description("Verified token cache lookups, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 토큰의 인증 정보를 조회하는 메서드이다. 만료된 항목은 제거한다.
+     * @param token JWT 토큰
+     * @return 인증 정보, 없거나 만료되었으면 null
+     */
+    public JwtAuthenticationToken get(String token) {
+        ByteBuffer key = keyOf(token);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.authentication;
+    }
+
+    /**
+     * 검증된 토큰의 인증 정보를 토큰 만료 시각까지 보관하는 메서드이다.
+     * @param token JWT 토큰
+     * @param authentication 인증 정보
+     */
+    public void put(String token, JwtAuthenticationToken authentication) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            evict();
+        }
+        entries.put(keyOf(token), new Entry(authentication));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 만료가 가장 가까운 항목부터 지워 자리를 만든다.
+     * 매번 전체를 훑지 않도록 용량의 1/16 만큼 여유를 확보한다.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int target = maxSize - Math.max(1, maxSize / 16);
+        int excess = entries.size() - target;
+        if (excess <= 0) {
+            return;
+        }
+        List<Map.Entry<ByteBuffer, Entry>> candidates = new ArrayList<>(entries.entrySet());
+        candidates.sort(Comparator.comparingLong(candidate -> candidate.getValue().authentication.getExpiresAt()));
+        for (int i = 0; i < excess && i < candidates.size(); i++) {
+            Map.Entry<ByteBuffer, Entry> candidate = candidates.get(i);
+            entries.remove(candidate.getKey(), candidate.getValue());
+        }
+    }
+
+    private ByteBuffer keyOf(String token) {
+        // 토큰 원문 대신 고정 길이 다이제스트를 키로 사용한다.
+        return ByteBuffer.wrap(DigestUtil.sha256(token));
+    }
+
+    private static final class Entry {
+        private final JwtAuthenticationToken authentication;
+
+        private Entry(JwtAuthenticationToken authentication) {
+            this.authentication = authentication;
+        }
+
+        private boolean isExpired(long now) {
+            return authentication.getExpiresAt() <= now;
+        }
+    }
+}
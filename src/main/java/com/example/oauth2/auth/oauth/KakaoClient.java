@@ -0,0 +1,141 @@
+package com.example.oauth2.auth.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 카카오 OAuth2 서버와 통신하는 클라이언트이다.
+ * 커넥션 풀을 공유하는 RestTemplate 을 사용하고, 응답은 타입이 있는 DTO 로 받는다.
+ */
+@Component
+public class KakaoClient {
+
+    private final RestTemplate restTemplate;
+
+    private final String CLIENT_ID;
+
+    private final String REDIRECT_URI;
+
+    private final String TOKEN_URI;
+
+    private final String USER_INFO_URI;
+
+    private final KakaoCallTimers tokenTimers;
+
+    private final KakaoCallTimers userInfoTimers;
+
+    public KakaoClient(@Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${OAuth2.kakao.client-id}") String CLIENT_ID,
+                       @Value("${OAuth2.kakao.redirect-uri}") String REDIRECT_URI,
+                       @Value("${OAuth2.kakao.token-uri:https://kauth.kakao.com/oauth/token}") String TOKEN_URI,
+                       @Value("${OAuth2.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String USER_INFO_URI) {
+        this.restTemplate = restTemplate;
+        this.CLIENT_ID = CLIENT_ID;
+        this.REDIRECT_URI = REDIRECT_URI;
+        this.TOKEN_URI = TOKEN_URI;
+        this.USER_INFO_URI = USER_INFO_URI;
+        this.tokenTimers = new KakaoCallTimers("token", meterRegistry);
+        this.userInfoTimers = new KakaoCallTimers("user_info", meterRegistry);
+    }
+
+    /**
+     * 인가 코드로 카카오 서버에 액세스 토큰을 요청하는 메서드이다.
+     * @param code 인가 코드
+     * @return 액세스 토큰 응답
+     */
+    public KakaoTokenResponse getAccessToken(String code) {
+        // HTTP Header 생성
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        // HTTP Body 생성
+        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+        body.add("grant_type", "authorization_code");
+        body.add("client_id", CLIENT_ID);
+        body.add("redirect_uri", REDIRECT_URI);
+        body.add("code", code);
+
+        // HTTP 요청 보내기
+        return tokenTimers.record(() -> restTemplate.exchange(
+                TOKEN_URI,
+                HttpMethod.POST,
+                new HttpEntity<>(body, headers),
+                KakaoTokenResponse.class
+        ).getBody());
+    }
+
+    /**
+     * 액세스 토큰으로 카카오 서버에 회원 정보를 요청하는 메서드이다.
+     * @param accessToken 액세스 토큰
+     * @return 회원 정보 응답
+     */
+    public KakaoUserInfoResponse getUserInfo(String accessToken) {
+        // HTTP Header 생성
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        headers.setContentType(MediaType.APPLICATION_FORM_URLENCODED);
+
+        // HTTP 요청 보내기
+        return userInfoTimers.record(() -> restTemplate.exchange(
+                USER_INFO_URI,
+                HttpMethod.POST,
+                new HttpEntity<>(headers),
+                KakaoUserInfoResponse.class
+        ).getBody());
+    }
+
+    /**
+     * 카카오 API 호출 하나의 성공, 실패별 응답 시간 히스토그램
+     */
+    static class KakaoCallTimers {
+        private final Timer success;
+        private final Timer error;
+
+        KakaoCallTimers(String call, MeterRegistry meterRegistry) {
+            this.success = timer(call, "success", meterRegistry);
+            this.error = timer(call, "error", meterRegistry);
+        }
+
+        private static Timer timer(String call, String outcome, MeterRegistry meterRegistry) {
+            return Timer.builder("kakao.client.requests")
+                    .description("Kakao OAuth2 API call latency")
+                    .tag("call", call)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(1))
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+        }
+
+        <T> T record(Supplier<T> call) {
+            long startedAt = System.nanoTime();
+            try {
+                T result = call.get();
+                success.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (RuntimeException e) {
+                error.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        void record(long elapsedNanos, boolean succeeded) {
+            (succeeded ? success : error).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.oauth2.auth.oauth;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 로그인에 성공하면 발급하는 JWT 액세스 토큰과 리프레시 토큰
+ */
+@Getter
+@AllArgsConstructor
+public class LoginTokens {
+    private final String accessToken;
+
+    private final String refreshToken;
+}
@@ -2,87 +2,103 @@ package com.example.oauth2.auth.oauth;
 
 import com.example.oauth2.auth.jwt.TokenProvider;
 import com.example.oauth2.global.util.CookieUtil;
-import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.global.util.SingleFlight;
 import com.example.oauth2.member.domain.OauthInfo;
-import com.example.oauth2.member.domain.RefreshToken;
-import com.example.oauth2.member.repository.MemberRepository;
-import com.example.oauth2.member.repository.RefreshTokenRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.example.oauth2.member.service.MemberService;
+import com.example.oauth2.member.service.RefreshTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.LinkedMultiValueMap;
-import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.time.Duration;
 
+/**
+ * 카카오 로그인 흐름을 조율한다.
+ * 외부 OAuth 호출은 트랜잭션 밖에서 하고, DB 작업만 짧은 트랜잭션으로 처리해서
+ * 카카오 응답을 기다리는 동안 DB 커넥션을 붙잡지 않는다.
+ */
 @Service
-@Transactional(readOnly = true)
 public class OauthService {
 
-    private final MemberRepository memberRepository;
+    private final MemberService memberService;
 
     private final TokenProvider tokenProvider;
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenService refreshTokenService;
 
-    private final String CLIENT_ID;
-
-    private final String REDIRECT_URI;
+    private final KakaoClient kakaoClient;
 
     private final String ACCESS_HEADER;
 
+    // 같은 카카오 회원의 동시 로그인은 회원 저장과 토큰 발급을 한 번만 하고 결과를 나눈다.
+    private final SingleFlight<OauthInfo, LoginTokens> loginsByOauthInfo = new SingleFlight<>();
+
     private static final Duration ACCESS_TOKEN_DURATION = Duration.ofDays(1);
 
-    private static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(14);
+    static final Duration REFRESH_TOKEN_DURATION = Duration.ofDays(14);
 
-    private static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
+    static final String REFRESH_TOKEN_COOKIE_NAME = "refresh_token";
 
     @Autowired
-    public OauthService(MemberRepository memberRepository,
+    public OauthService(MemberService memberService,
                         TokenProvider tokenProvider,
-                        RefreshTokenRepository refreshTokenRepository,
-                        @Value("${OAuth2.kakao.client-id}") String CLIENT_ID,
-                        @Value("${OAuth2.kakao.redirect-uri}") String REDIRECT_URI,
+                        RefreshTokenService refreshTokenService,
+                        KakaoClient kakaoClient,
                         @Value("${jwt.header}") String ACCESS_HEADER) {
-        this.memberRepository = memberRepository;
+        this.memberService = memberService;
         this.tokenProvider = tokenProvider;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.CLIENT_ID = CLIENT_ID;
-        this.REDIRECT_URI = REDIRECT_URI;
+        this.refreshTokenService = refreshTokenService;
+        this.kakaoClient = kakaoClient;
         this.ACCESS_HEADER = ACCESS_HEADER;
     }
 
-
-    @Transactional
     public void kakaoLogin(String code, HttpServletRequest request, HttpServletResponse response) {
-        // 1. 인가 코드로 OAuth2 액세스 토큰 요청
-        String oauthAccessToken = getAccessToken(code);
+        // 인가 코드는 한 번만 쓸 수 있으므로 같은 코드의 요청을 합치지 않는다.
+        // 합치면 가로챈 코드로 동시에 요청한 쪽도 같은 토큰을 받게 된다.
+        // 1. 인가 코드로 OAuth2 액세스 토큰 요청 (트랜잭션 없음)
+        String oauthAccessToken = kakaoClient.getAccessToken(code).getAccessToken();
+
+        // 2. OAuth2 액세스 토큰으로 회원 정보 요청 (트랜잭션 없음)
+        KakaoUserInfoResponse userInfo = kakaoClient.getUserInfo(oauthAccessToken);
+
+        // 3 ~ 5. 회원 정보 저장과 JWT 발급
+        LoginTokens tokens = completeLogin(userInfo, oauthAccessToken);
+        response.setHeader(ACCESS_HEADER, tokens.getAccessToken());
+        addRefreshTokenToCookie(request, response, tokens.getRefreshToken());
+    }
 
-        // 2. OAuth2 액세스 토큰으로 회원 정보 요청
-        JsonNode responseJson = getKakaoUserInfo(oauthAccessToken);
+    /**
+     * 카카오 인증이 끝난 뒤 회원 정보를 저장하고 JWT 를 발급하는 메서드이다.
+     * DB 에 접근하므로 WebFlux 에서는 이벤트 루프가 아닌 별도 스케줄러에서 호출해야 한다.
+     * @param userInfo 카카오 회원 정보
+     * @param oauthAccessToken 카카오 액세스 토큰
+     * @return 발급한 액세스 토큰과 리프레시 토큰
+     */
+    public LoginTokens completeLogin(KakaoUserInfoResponse userInfo, String oauthAccessToken) {
+        OauthInfo oauthInfo = new OauthInfo(String.valueOf(userInfo.getId()), OauthProvider.KAKAO);
+        return loginsByOauthInfo.execute(oauthInfo, () -> issueTokens(oauthInfo, userInfo, oauthAccessToken));
+    }
 
-        // 3. 회원 정보 저장
-        Member member = registerKakaoUser(responseJson, oauthAccessToken);
+    private LoginTokens issueTokens(OauthInfo oauthInfo, KakaoUserInfoResponse userInfo, String oauthAccessToken) {
+        // 3. 회원 정보 저장 (짧은 트랜잭션)
+        Long memberId = registerKakaoUser(oauthInfo, userInfo, oauthAccessToken);
 
         // 4. JWT 액세스 토큰 발급
-        String accessToken = tokenProvider.generateToken(member, ACCESS_TOKEN_DURATION);
-        response.setHeader(ACCESS_HEADER, accessToken);
+        String accessToken = tokenProvider.generateToken(memberId, ACCESS_TOKEN_DURATION);
+
+        // 5. JWT 리프레시 토큰 발급 및 저장 (짧은 트랜잭션)
+        String refreshToken = tokenProvider.generateToken(memberId, REFRESH_TOKEN_DURATION);
+        // 토큰의 exp 보다 늦거나 같도록 발급한 뒤의 시각으로 계산한다.
+        long refreshTokenExpiresAt = System.currentTimeMillis() + REFRESH_TOKEN_DURATION.toMillis();
+        refreshTokenService.saveRefreshToken(memberId, refreshToken, refreshTokenExpiresAt);
 
-        // 5. JWT 리프레시 토큰 발급
-        String refreshToken = tokenProvider.generateToken(member, REFRESH_TOKEN_DURATION);
-        saveRefreshToken(member.getId(), refreshToken);
-        addRefreshTokenToCookie(request, response, refreshToken);
+        return new LoginTokens(accessToken, refreshToken);
+    }
+
+    public String getAccessHeader() {
+        return ACCESS_HEADER;
     }
 
     private void addRefreshTokenToCookie(HttpServletRequest request, HttpServletResponse response, String refreshToken) {
@@ -91,106 +107,17 @@ public class OauthService {
         CookieUtil.addHttpOnlyCookie(response, REFRESH_TOKEN_COOKIE_NAME, refreshToken, cookieMaxAge);
     }
 
-    private void saveRefreshToken(Long memberId, String newRefreshToken) {
-        RefreshToken refreshToken = refreshTokenRepository.findByMemberId(memberId)
-                .map(entity -> entity.update(newRefreshToken))
-                .orElse(new RefreshToken(memberId, newRefreshToken));
-
-        refreshTokenRepository.save(refreshToken);
-    }
-
-    /**
-     * 인가 코드로 카카오 서버에 액세스 토큰을 요청하는 메서드이다.
-     * @param code 인가 코드
-     * @return 액세스 토큰
-     */
-    private String getAccessToken(String code) {
-
-        // HTTP Header 생성
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        // HTTP Body 생성
-        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
-        body.add("grant_type", "authorization_code");
-        body.add("client_id", CLIENT_ID);
-        body.add("redirect_uri", REDIRECT_URI);
-        body.add("code", code);
-
-        // HTTP 요청 보내기
-        HttpEntity<MultiValueMap<String, String>> tokenRequest = new HttpEntity<>(body, headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.exchange(
-                "https://kauth.kakao.com/oauth/token",
-                HttpMethod.POST,
-                tokenRequest,
-                String.class
-        );
-
-        // HTTP 응답에서 액세스 토큰 꺼내기
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode jsonNode = null;
-        try {
-            jsonNode = objectMapper.readTree(responseBody);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
-        return jsonNode.get("access_token").asText();
-    }
-
-    /**
-     * 액세스 토큰으로 카카오 서버에 회원 정보를 요청하는 메서드이다.
-     * @param accessToken 액세스 토큰
-     * @return JSON 형식의 회원 정보
-     */
-    private JsonNode getKakaoUserInfo(String accessToken) {
-        // HTTP Header 생성
-        HttpHeaders headers = new HttpHeaders();
-        headers.add("Authorization", "Bearer " + accessToken);
-        headers.add("Content-type", "application/x-www-form-urlencoded;charset=utf-8");
-
-        // HTTP 요청 보내기
-        HttpEntity<MultiValueMap<String, String>> userInfoRequest = new HttpEntity<>(headers);
-        RestTemplate restTemplate = new RestTemplate();
-        ResponseEntity<String> response = restTemplate.exchange(
-                "https://kapi.kakao.com/v2/user/me",
-                HttpMethod.POST,
-                userInfoRequest,
-                String.class
-        );
-
-        // HTTP 응답 반환
-        String responseBody = response.getBody();
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            return objectMapper.readTree(responseBody);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
     /**
      * 카카오 회원 정보를 데이터베이스에 저장하는 메서드이다.
-     * @param responseJson JSON 형식의 카카오 회원 정보
-     * @return 저장된 Member 객체
+     * @param oauthInfo 카카오 회원 식별 정보
+     * @param userInfo 카카오 회원 정보
+     * @return 저장된 회원의 ID
      */
-    private Member registerKakaoUser(JsonNode responseJson, String accessToken) {
-        String oauthId = responseJson.get("id").asText();
-        JsonNode profile = responseJson.get("kakao_account").get("profile");
-        String nickname = profile.get("nickname").asText();
-        String profileImage = profile.get("profile_image_url").asText();
-
-        OauthInfo oauthInfo = new OauthInfo(oauthId, OauthProvider.KAKAO);
-
-        Member member = memberRepository.findByOauthInfo(oauthInfo)
-                .map(entity -> entity.update(accessToken))
-                .orElse(Member.builder()
-                        .accessToken(accessToken)
-                        .nickname(nickname)
-                        .profileImage(profileImage)
-                        .oauthInfo(oauthInfo)
-                        .build());
-        return memberRepository.save(member);
+    private Long registerKakaoUser(OauthInfo oauthInfo, KakaoUserInfoResponse userInfo, String accessToken) {
+        KakaoUserInfoResponse.Profile profile = userInfo.getKakaoAccount().getProfile();
+        String nickname = profile.getNickname();
+        String profileImage = profile.getProfileImageUrl();
+
+        return memberService.registerOauthMember(oauthInfo, nickname, profileImage, accessToken);
     }
 }
@@ -0,0 +1,99 @@
+package com.example.oauth2.auth.oauth;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * KakaoClient 의 논블로킹 버전이다. 응답을 기다리는 동안 스레드를 점유하지 않는다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveKakaoClient {
+
+    private final WebClient webClient;
+
+    private final String CLIENT_ID;
+
+    private final String REDIRECT_URI;
+
+    private final String TOKEN_URI;
+
+    private final String USER_INFO_URI;
+
+    private final KakaoClient.KakaoCallTimers tokenTimers;
+
+    private final KakaoClient.KakaoCallTimers userInfoTimers;
+
+    public ReactiveKakaoClient(@Qualifier("kakaoWebClient") WebClient webClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${OAuth2.kakao.client-id}") String CLIENT_ID,
+                               @Value("${OAuth2.kakao.redirect-uri}") String REDIRECT_URI,
+                               @Value("${OAuth2.kakao.token-uri:https://kauth.kakao.com/oauth/token}") String TOKEN_URI,
+                               @Value("${OAuth2.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String USER_INFO_URI) {
+        this.webClient = webClient;
+        this.CLIENT_ID = CLIENT_ID;
+        this.REDIRECT_URI = REDIRECT_URI;
+        this.TOKEN_URI = TOKEN_URI;
+        this.USER_INFO_URI = USER_INFO_URI;
+        this.tokenTimers = new KakaoClient.KakaoCallTimers("token", meterRegistry);
+        this.userInfoTimers = new KakaoClient.KakaoCallTimers("user_info", meterRegistry);
+    }
+
+    /**
+     * 인가 코드로 카카오 서버에 액세스 토큰을 요청하는 메서드이다.
+     * @param code 인가 코드
+     * @return 액세스 토큰 응답
+     */
+    public Mono<KakaoTokenResponse> getAccessToken(String code) {
+        // HTTP Body 생성
+        MultiValueMap<String, String> body = new LinkedMultiValueMap<>();
+        body.add("grant_type", "authorization_code");
+        body.add("client_id", CLIENT_ID);
+        body.add("redirect_uri", REDIRECT_URI);
+        body.add("code", code);
+
+        // HTTP 요청 보내기
+        return timed(tokenTimers, webClient.post()
+                .uri(TOKEN_URI)
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .body(BodyInserters.fromFormData(body))
+                .retrieve()
+                .bodyToMono(KakaoTokenResponse.class));
+    }
+
+    /**
+     * 액세스 토큰으로 카카오 서버에 회원 정보를 요청하는 메서드이다.
+     * @param accessToken 액세스 토큰
+     * @return 회원 정보 응답
+     */
+    public Mono<KakaoUserInfoResponse> getUserInfo(String accessToken) {
+        // HTTP 요청 보내기
+        return timed(userInfoTimers, webClient.post()
+                .uri(USER_INFO_URI)
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                .retrieve()
+                .bodyToMono(KakaoUserInfoResponse.class));
+    }
+
+    /**
+     * 구독한 시점부터 응답이나 에러가 올 때까지의 시간을 기록한다.
+     */
+    private static <T> Mono<T> timed(KakaoClient.KakaoCallTimers timers, Mono<T> call) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return call
+                    .doOnSuccess(response -> timers.record(System.nanoTime() - startedAt, true))
+                    .doOnError(e -> timers.record(System.nanoTime() - startedAt, false));
+        });
+    }
+}
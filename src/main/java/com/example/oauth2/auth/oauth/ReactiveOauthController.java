@@ -0,0 +1,63 @@
+package com.example.oauth2.auth.oauth;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * OauthController 의 WebFlux 버전이다.
+ * 카카오 호출은 논블로킹으로 하고, 회원 저장과 토큰 발급만 JPA 스케줄러에서 실행한다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOauthController {
+    private final ReactiveKakaoClient kakaoClient;
+
+    private final OauthService oauthService;
+
+    private final Scheduler jpaScheduler;
+
+    public ReactiveOauthController(ReactiveKakaoClient kakaoClient,
+                                   OauthService oauthService,
+                                   @Qualifier("jpaScheduler") Scheduler jpaScheduler) {
+        this.kakaoClient = kakaoClient;
+        this.oauthService = oauthService;
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    @PostMapping("/api/auth/kakao")
+    public Mono<ResponseEntity<Void>> kakaoLogin(@RequestBody LoginRequest loginRequest) {
+        // 1. 인가 코드로 OAuth2 액세스 토큰 요청
+        return kakaoClient.getAccessToken(loginRequest.getCode())
+                .map(KakaoTokenResponse::getAccessToken)
+                // 2. OAuth2 액세스 토큰으로 회원 정보 요청
+                .flatMap(oauthAccessToken -> kakaoClient.getUserInfo(oauthAccessToken)
+                        // 3 ~ 5. 회원 정보 저장과 JWT 발급 (JPA 스케줄러)
+                        .flatMap(userInfo -> Mono.fromCallable(() -> oauthService.completeLogin(userInfo, oauthAccessToken))
+                                .subscribeOn(jpaScheduler)))
+                .map(this::toResponse);
+    }
+
+    private ResponseEntity<Void> toResponse(LoginTokens tokens) {
+        // 같은 이름의 쿠키를 덮어쓰므로 기존 리프레시 토큰 쿠키를 따로 지우지 않는다.
+        ResponseCookie refreshTokenCookie = ResponseCookie.from(OauthService.REFRESH_TOKEN_COOKIE_NAME, tokens.getRefreshToken())
+                .path("/")
+                .maxAge(OauthService.REFRESH_TOKEN_DURATION)
+                .httpOnly(true)
+                .secure(true)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .header(oauthService.getAccessHeader(), tokens.getAccessToken())
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .build();
+    }
+}
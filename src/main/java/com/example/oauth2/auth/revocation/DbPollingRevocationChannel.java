@@ -0,0 +1,119 @@
+package com.example.oauth2.auth.revocation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * revoked_token 테이블을 주기적으로 조회해서 폐기 이벤트를 전달하는 채널이다.
+ * 별도의 메시지 브로커 없이 DB 만으로 여러 노드가 같은 폐기 목록을 공유한다.
+ * IDENTITY id 는 커밋 순서와 다르게 매겨질 수 있으므로 id 대신 폐기 시각으로 조회하고,
+ * 늦게 커밋된 행과 노드 간 시계 차이를 놓치지 않도록 이전 조회 시각보다 overlap 만큼 앞에서부터 다시 읽는다.
+ * 겹치는 구간의 행은 여러 번 전달되므로 리스너는 같은 폐기를 여러 번 받아도 되어야 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.revocation.channel", havingValue = "db", matchIfMissing = true)
+public class DbPollingRevocationChannel implements RevocationChannel {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+
+    private final long pollIntervalMs;
+
+    private final long pollOverlapMs;
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private final ScheduledExecutorService poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "revocation-poller");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 마지막 조회를 시작한 시각, 처음에는 전체를 읽는다.
+    private long lastPolledAt = Long.MIN_VALUE;
+
+    private long lastPurgeAt;
+
+    public DbPollingRevocationChannel(RevokedTokenRepository revokedTokenRepository,
+                                      @Value("${jwt.revocation.poll-interval-ms:1000}") long pollIntervalMs,
+                                      @Value("${jwt.revocation.poll-overlap-ms:10000}") long pollOverlapMs) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.pollIntervalMs = pollIntervalMs;
+        this.pollOverlapMs = pollOverlapMs;
+    }
+
+    @Override
+    public void publish(String tokenId, long expiresAt) {
+        try {
+            revokedTokenRepository.save(new RevokedToken(tokenId, expiresAt));
+        } catch (DataIntegrityViolationException e) { // 이미 폐기된 토큰
+            log.debug("Token {} is already revoked", tokenId);
+        }
+    }
+
+    @Override
+    public void subscribe(Listener listener) {
+        listeners.add(listener);
+        // 첫 구독 때 쌓여 있는 폐기 목록을 동기적으로 읽고 나서 주기적인 조회를 시작한다.
+        if (started.compareAndSet(false, true)) {
+            poll();
+            poller.scheduleWithFixedDelay(this::pollSafely, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Failed to poll revoked tokens", e);
+        }
+    }
+
+    synchronized void poll() {
+        long now = System.currentTimeMillis();
+        // 폐기 시각은 저장하는 노드에서 커밋 전에 정해지므로, 커밋 지연과 시계 차이만큼 겹쳐서 읽는다.
+        long from = lastPolledAt == Long.MIN_VALUE ? Long.MIN_VALUE : lastPolledAt - pollOverlapMs;
+        for (int pageNumber = 0; ; pageNumber++) {
+            List<RevokedToken> page = revokedTokenRepository.findByCreatedAtGreaterThanEqualOrderByCreatedAtAscIdAsc(
+                    from, PageRequest.of(pageNumber, PAGE_SIZE));
+            for (RevokedToken revokedToken : page) {
+                if (revokedToken.getExpiresAt() > now) {
+                    for (Listener listener : listeners) {
+                        listener.onRevoked(revokedToken.getTokenId(), revokedToken.getExpiresAt());
+                    }
+                }
+            }
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+        }
+        lastPolledAt = now;
+
+        // 만료된 토큰은 더 이상 폐기 목록에 둘 필요가 없으므로 가끔 지운다.
+        if (now - lastPurgeAt > TimeUnit.MINUTES.toMillis(10)) {
+            revokedTokenRepository.deleteExpired(now);
+            lastPurgeAt = now;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.oauth2.auth.revocation;
+
+/**
+ * 토큰 폐기 이벤트를 다른 노드에 전달하는 채널이다. jwt.revocation.channel 로 구현을 고른다.
+ */
+public interface RevocationChannel {
+
+    /**
+     * 폐기한 토큰을 모든 노드에 알린다.
+     */
+    void publish(String tokenId, long expiresAt);
+
+    /**
+     * 폐기 이벤트를 받을 리스너를 등록한다. 등록하면 그동안 쌓인 이벤트도 전달받는다.
+     */
+    void subscribe(Listener listener);
+
+    /**
+     * 같은 폐기 이벤트가 여러 번 전달될 수 있으므로 구현은 멱등이어야 한다.
+     */
+    interface Listener {
+        void onRevoked(String tokenId, long expiresAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.oauth2.auth.revocation;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Entity
+@Table(indexes = @Index(name = "idx_revoked_token_created_at", columnList = "createdAt"))
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 폐기한 토큰의 jti
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenId;
+
+    // 토큰 만료 시각(epoch millis), 이후에는 목록에서 지워도 된다.
+    @Column(nullable = false)
+    private long expiresAt;
+
+    // 폐기한 시각(epoch millis), 다른 노드는 이 값으로 새로 폐기된 토큰을 조회한다.
+    @Column(nullable = false)
+    private long createdAt;
+
+    public RevokedToken(String tokenId, long expiresAt) {
+        this.tokenId = tokenId;
+        this.expiresAt = expiresAt;
+        this.createdAt = System.currentTimeMillis();
+    }
+}
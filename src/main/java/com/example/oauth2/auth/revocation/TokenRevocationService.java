@@ -0,0 +1,114 @@
+package com.example.oauth2.auth.revocation;
+
+import com.example.oauth2.global.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료 전에 폐기한 토큰(jti) 목록을 관리한다.
+ * 요청마다 확인하는 경로는 블룸 필터만 보고, 필터가 있다고 답한 드문 경우에만 정확한 집합을 확인한다.
+ * 만료된 항목은 주기적으로 정리하면서 블룸 필터를 다시 만든다.
+ */
+@Service
+public class TokenRevocationService {
+
+    private final RevocationChannel revocationChannel;
+
+    private final int expectedRevocations;
+
+    private final double falsePositiveRate;
+
+    private final long rebuildIntervalMs;
+
+    // jti -> 토큰 만료 시각(epoch millis)
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    private final ScheduledExecutorService rebuilder = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "revocation-filter-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TokenRevocationService(RevocationChannel revocationChannel,
+                                  @Value("${jwt.revocation.expected-revocations:100000}") int expectedRevocations,
+                                  @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${jwt.revocation.rebuild-interval-ms:600000}") long rebuildIntervalMs) {
+        this.revocationChannel = revocationChannel;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMs = rebuildIntervalMs;
+        this.bloomFilter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * 쌓여 있는 폐기 목록을 읽어 들이고 블룸 필터를 주기적으로 다시 만들기 시작한다.
+     * 빈이 완전히 만들어진 뒤에 시작해야 컨텍스트가 실패했을 때 @PreDestroy 로 스레드가 정리된다.
+     */
+    @PostConstruct
+    public void start() {
+        revocationChannel.subscribe(this::add);
+        rebuilder.scheduleWithFixedDelay(this::rebuild, rebuildIntervalMs, rebuildIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기하고 다른 노드에 알리는 메서드이다.
+     * @param tokenId 토큰의 jti
+     * @param expiresAt 토큰 만료 시각(epoch millis)
+     */
+    public void revoke(String tokenId, long expiresAt) {
+        if (tokenId == null) {
+            return;
+        }
+        add(tokenId, expiresAt);
+        revocationChannel.publish(tokenId, expiresAt);
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인하는 메서드이다. jti 가 없는 토큰은 폐기할 수 없다.
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null || !bloomFilter.mightContain(tokenId)) {
+            return false;
+        }
+        return revokedTokens.containsKey(tokenId);
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    private synchronized void add(String tokenId, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAt);
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * 만료된 항목을 지우고 남은 항목으로 블룸 필터를 새로 만든다. add 와 겹치지 않도록 잠근다.
+     */
+    private synchronized void rebuild() {
+        long now = System.currentTimeMillis();
+        revokedTokens.values().removeIf(expiresAt -> expiresAt <= now);
+
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, revokedTokens.size() * 2), falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.oauth2.global.config;
+
+import com.example.oauth2.auth.jwt.JwtKeySet;
+import com.example.oauth2.auth.jwt.ReactiveTokenController;
+import com.example.oauth2.auth.jwt.TokenAuthenticator;
+import com.example.oauth2.auth.jwt.TokenController;
+import com.example.oauth2.auth.jwt.TokenProvider;
+import com.example.oauth2.auth.jwt.TokenService;
+import com.example.oauth2.auth.jwt.VerifiedTokenCache;
+import com.example.oauth2.auth.oauth.KakaoClient;
+import com.example.oauth2.auth.oauth.OauthController;
+import com.example.oauth2.auth.oauth.OauthService;
+import com.example.oauth2.auth.oauth.ReactiveKakaoClient;
+import com.example.oauth2.auth.oauth.ReactiveOauthController;
+import com.example.oauth2.auth.revocation.RevocationChannel;
+import com.example.oauth2.auth.revocation.TokenRevocationService;
+import com.example.oauth2.member.controller.MemberController;
+import com.example.oauth2.member.controller.ReactiveMemberController;
+import com.example.oauth2.member.repository.IdSequenceMigration;
+import com.example.oauth2.member.repository.LegacyRefreshTokenMigration;
+import com.example.oauth2.member.service.MemberCache;
+import com.example.oauth2.member.service.MemberService;
+import com.example.oauth2.member.service.OauthMemberIdCache;
+import com.example.oauth2.member.service.RefreshTokenPurger;
+import com.example.oauth2.member.service.RefreshTokenService;
+import com.example.oauth2.member.service.RefreshTokenStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * fast-startup 프로파일(spring.main.lazy-initialization)에서 시작 시간을 줄이면서도
+ * 첫 요청이 빈 생성 비용을 떠안지 않도록 요청 경로의 빈은 시작할 때 만든다.
+ */
+@Configuration(proxyBeanMethods = false)
+public class FastStartupConfig {
+
+    /**
+     * 지연 초기화에서 제외할 빈이다. 나머지(관리용 API, 회원 일괄 등록, actuator 등)는 처음 사용할 때 만든다.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter hotPathBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                // 인증 필터
+                TokenAuthenticator.class, TokenProvider.class, JwtKeySet.class, VerifiedTokenCache.class,
+                TokenRevocationService.class, RevocationChannel.class,
+                // 로그인과 토큰 재발급
+                OauthService.class, KakaoClient.class, ReactiveKakaoClient.class, TokenService.class,
+                MemberService.class, MemberCache.class, OauthMemberIdCache.class,
+                RefreshTokenService.class, RefreshTokenStore.class,
+                OauthController.class, TokenController.class, MemberController.class,
+                ReactiveOauthController.class, ReactiveTokenController.class, ReactiveMemberController.class,
+                // 시작할 때 실행되어야 하는 마이그레이션과 백그라운드 작업
+                LegacyRefreshTokenMigration.class, IdSequenceMigration.class, RefreshTokenPurger.class);
+    }
+
+    /**
+     * AppCDS 학습 실행에서 사용한다. 시작이 끝나면 애플리케이션을 종료해서 JVM 이 아카이브를 쓰게 한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.startup.exit-after-ready", havingValue = "true")
+    ApplicationListener<ApplicationReadyEvent> exitAfterReady() {
+        return event -> System.exit(SpringApplication.exit(event.getApplicationContext()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.oauth2.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.support.AllEncompassingFormHttpMessageConverter;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class KakaoClientConfig {
+
+    /**
+     * 카카오 서버와의 연결을 재사용하는 keep-alive 커넥션 풀
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient kakaoHttpClient(@Value("${OAuth2.kakao.http.max-connections:200}") int maxConnections,
+                                               @Value("${OAuth2.kakao.http.idle-timeout-ms:30000}") long idleTimeoutMs) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        // kauth, kapi 두 호스트만 사용하므로 호스트당 최대치도 전체와 같게 둔다.
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+        connectionManager.setValidateAfterInactivity(2000);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .evictIdleConnections(idleTimeoutMs, TimeUnit.MILLISECONDS)
+                .evictExpiredConnections()
+                .build();
+    }
+
+    /**
+     * 커넥션 풀과 스프링의 공용 ObjectMapper 를 사용하는 카카오 전용 RestTemplate
+     */
+    @Bean
+    public RestTemplate kakaoRestTemplate(RestTemplateBuilder restTemplateBuilder,
+                                          CloseableHttpClient kakaoHttpClient,
+                                          @Value("${OAuth2.kakao.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                          @Value("${OAuth2.kakao.http.read-timeout-ms:5000}") int readTimeoutMs,
+                                          @Value("${OAuth2.kakao.http.pool-timeout-ms:1000}") int poolTimeoutMs) {
+        HttpComponentsClientHttpRequestFactory requestFactory = new HttpComponentsClientHttpRequestFactory(kakaoHttpClient);
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        requestFactory.setConnectionRequestTimeout(poolTimeoutMs);
+
+        return restTemplateBuilder
+                .requestFactory(() -> requestFactory)
+                .build();
+    }
+
+    /**
+     * WebFlux 로 실행하면 스프링 부트가 RestTemplateBuilder 를 만들지 않는다.
+     * 로그인을 마무리하는 OauthService 는 두 모드에서 함께 쓰므로, 공용 ObjectMapper 를 쓰는 빌더를 직접 만든다.
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public RestTemplateBuilder kakaoRestTemplateBuilder(ObjectMapper objectMapper) {
+        return new RestTemplateBuilder()
+                .messageConverters(new AllEncompassingFormHttpMessageConverter(), new MappingJackson2HttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.oauth2.global.config;
+
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * spring.main.web-application-type=reactive 로 실행할 때 사용하는 설정이다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConfig {
+
+    /**
+     * JPA 호출을 이벤트 루프 밖에서 실행하는 스케줄러
+     * 스레드 수를 커넥션 풀 크기에 맞춰서 커넥션을 기다리며 블로킹되는 스레드가 생기지 않게 한다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jpaScheduler(@Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                  @Value("${app.reactive.jpa-queue-size:10000}") int queueSize) {
+        return Schedulers.newBoundedElastic(poolSize, queueSize, "jpa");
+    }
+
+    /**
+     * 카카오 서버와의 연결을 재사용하는 논블로킹 WebClient
+     */
+    @Bean
+    public WebClient kakaoWebClient(WebClient.Builder webClientBuilder,
+                                    @Value("${OAuth2.kakao.http.max-connections:200}") int maxConnections,
+                                    @Value("${OAuth2.kakao.http.idle-timeout-ms:30000}") long idleTimeoutMs,
+                                    @Value("${OAuth2.kakao.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+                                    @Value("${OAuth2.kakao.http.read-timeout-ms:5000}") long readTimeoutMs,
+                                    @Value("${OAuth2.kakao.http.pool-timeout-ms:1000}") long poolTimeoutMs) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("kakao")
+                .maxConnections(maxConnections)
+                .maxIdleTime(Duration.ofMillis(idleTimeoutMs))
+                .pendingAcquireTimeout(Duration.ofMillis(poolTimeoutMs))
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.oauth2.global.config;
+
+import com.example.oauth2.auth.jwt.TokenAuthenticationWebFilter;
+import com.example.oauth2.auth.jwt.TokenAuthenticator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * SecurityConfig 의 WebFlux 버전이다.
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveSecurityConfig {
+
+    private final TokenAuthenticator tokenAuthenticator;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 특정 HTTP 요청에 대한 웹 기반 보안 구성
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        Counter unauthenticated = rejectionCounter("unauthenticated");
+        Counter accessDenied = rejectionCounter("access_denied");
+
+        return http
+                .httpBasic().disable()
+                .csrf().disable()
+                .formLogin().disable()
+                .logout().disable()
+                // 토큰 기반 인증을 사용하기 때문에 보안 컨텍스트를 저장하지 않음
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+
+                // 인증, 인가 설정
+                .authorizeExchange()
+                .pathMatchers("/api/auth/**", "/.well-known/jwks.json").permitAll()
+                .pathMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                .anyExchange().authenticated()
+                .and()
+
+                // 헤더를 확인할 커스텀 필터 추가
+                .addFilterAt(new TokenAuthenticationWebFilter(tokenAuthenticator), SecurityWebFiltersOrder.AUTHENTICATION)
+
+                // 인증 및 인가 예외 처리
+                .exceptionHandling()
+                // 유효한 자격증명을 제공하지 않고 접근하려 할 때 401 에러 반환
+                .authenticationEntryPoint((exchange, e) -> Mono.fromRunnable(() -> {
+                    unauthenticated.increment();
+                    exchange.getResponse().setStatusCode(HttpStatus.UNAUTHORIZED);
+                }))
+                // 필요한 권한 없이 접근하려 할 때 403 에러 반환
+                .accessDeniedHandler((exchange, e) -> Mono.fromRunnable(() -> {
+                    accessDenied.increment();
+                    exchange.getResponse().setStatusCode(HttpStatus.FORBIDDEN);
+                }))
+                .and()
+                .build();
+    }
+
+    /**
+     * JwtAuthenticationEntryPoint, JwtAccessDeniedHandler 와 같은 이름의 카운터
+     */
+    private Counter rejectionCounter(String reason) {
+        return Counter.builder("auth.rejections")
+                .description("Requests rejected by Spring Security, by reason")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.oauth2.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 메서드를 실행한다. 만료된 리프레시 토큰 정리(RefreshTokenPurger)가 여기서 돈다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
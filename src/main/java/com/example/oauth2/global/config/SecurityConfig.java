@@ -3,8 +3,9 @@ package com.example.oauth2.global.config;
 import com.example.oauth2.auth.jwt.JwtAccessDeniedHandler;
 import com.example.oauth2.auth.jwt.JwtAuthenticationEntryPoint;
 import com.example.oauth2.auth.jwt.TokenAuthenticationFilter;
-import com.example.oauth2.auth.jwt.TokenProvider;
+import com.example.oauth2.auth.jwt.TokenAuthenticator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,10 +16,15 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final TokenProvider tokenProvider;
+    private final TokenAuthenticator tokenAuthenticator;
+
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
     /**
      * 스프링 시큐리티 기능 비활성화
@@ -45,7 +51,11 @@ public class SecurityConfig {
 
                 // 인증, 인가 설정
                 .authorizeRequests()
-                .antMatchers("/api/auth/**").permitAll()
+                .antMatchers("/api/auth/**", "/.well-known/jwks.json").permitAll()
+                // 모니터링 프로필에서는 관리 포트로만 노출한다.
+                .antMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                // 대량 가입 API 는 회원 토큰 대신 X-Import-Token 헤더로 확인한다.
+                .antMatchers("/api/admin/members/import").permitAll()
                 .anyRequest().authenticated()
                 .and()
 
@@ -54,14 +64,14 @@ public class SecurityConfig {
 
                 // 인증 및 인가 예외 처리
                 .exceptionHandling()
-                .authenticationEntryPoint(new JwtAuthenticationEntryPoint())
-                .accessDeniedHandler(new JwtAccessDeniedHandler());
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                .accessDeniedHandler(jwtAccessDeniedHandler);
 
         return http.build();
     }
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenAuthenticator);
     }
 }
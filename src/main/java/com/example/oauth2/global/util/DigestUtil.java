@@ -0,0 +1,47 @@
+package com.example.oauth2.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class DigestUtil {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    // MessageDigest 는 스레드 안전하지 않으므로 빌려 쓰고 돌려놓는다.
+    private static final ScratchPool<MessageDigest> SHA_256 = new ScratchPool<>(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * 문자열의 SHA-256 다이제스트를 계산하는 메서드이다.
+     * @param value 다이제스트를 계산할 문자열
+     * @return 32바이트 다이제스트
+     */
+    public static byte[] sha256(String value) {
+        MessageDigest digest = SHA_256.acquire();
+        try {
+            digest.reset();
+            return digest.digest(value.getBytes(StandardCharsets.US_ASCII));
+        } finally {
+            SHA_256.release(digest);
+        }
+    }
+
+    /**
+     * 문자열의 SHA-256 다이제스트를 64자리 16진수 문자열로 반환하는 메서드이다.
+     */
+    public static String sha256Hex(String value) {
+        byte[] digest = sha256(value);
+        char[] hex = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = HEX[(digest[i] >> 4) & 0x0f];
+            hex[i * 2 + 1] = HEX[digest[i] & 0x0f];
+        }
+        return new String(hex);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.oauth2.global.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 안전하지 않은 재사용 객체(Mac, MessageDigest, 버퍼 등)를 빌려 쓰는 풀이다.
+ * 플랫폼 스레드는 ThreadLocal 로 스레드마다 하나씩 가진다.
+ * 가상 스레드는 요청마다 새로 만들어지므로 ThreadLocal 에 두면 요청마다 새로 만들게 된다.
+ * 그래서 가상 스레드에서는 스레드 ID 로 고른 슬롯에서 꺼내 쓰고 다시 돌려놓는다.
+ * 슬롯 수는 CPU 수의 두 배 정도로 고정되어 있어 보관하는 객체 수도 그 이상 늘지 않는다.
+ * <pre>
+ * T value = pool.acquire();
+ * try {
+ *     ...
+ * } finally {
+ *     pool.release(value);
+ * }
+ * </pre>
+ */
+public final class ScratchPool<T> {
+
+    // 빈 슬롯을 만나면 옆 슬롯을 몇 개까지 더 볼지
+    private static final int PROBES = 4;
+
+    // Java 21 의 Thread.isVirtual(), 그 이전 버전에서는 null
+    private static final MethodHandle IS_VIRTUAL = findIsVirtual();
+
+    private final Supplier<T> factory;
+
+    private final ThreadLocal<T> threadLocal;
+
+    private final AtomicReferenceArray<T> slots;
+
+    private final int mask;
+
+    public ScratchPool(Supplier<T> factory) {
+        this.factory = factory;
+        this.threadLocal = ThreadLocal.withInitial(factory);
+        int size = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 객체를 빌리는 메서드이다. 가상 스레드에서 모든 슬롯이 비어 있으면 새로 만든다.
+     */
+    public T acquire() {
+        if (!isVirtualThread()) {
+            return threadLocal.get();
+        }
+        int start = slotIndex();
+        for (int i = 0; i < PROBES; i++) {
+            T value = slots.getAndSet((start + i) & mask, null);
+            if (value != null) {
+                return value;
+            }
+        }
+        return factory.get();
+    }
+
+    /**
+     * 빌린 객체를 돌려놓는 메서드이다. 가상 스레드에서 슬롯이 모두 차 있으면 버린다.
+     */
+    public void release(T value) {
+        if (!isVirtualThread()) {
+            return;
+        }
+        int start = slotIndex();
+        for (int i = 0; i < PROBES; i++) {
+            if (slots.compareAndSet((start + i) & mask, null, value)) {
+                return;
+            }
+        }
+    }
+
+    @SuppressWarnings("deprecation") // Thread.threadId() 는 Java 19 부터 있다.
+    private int slotIndex() {
+        long id = Thread.currentThread().getId();
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+
+    private static boolean isVirtualThread() {
+        if (IS_VIRTUAL == null) {
+            return false;
+        }
+        try {
+            return (boolean) IS_VIRTUAL.invokeExact(Thread.currentThread());
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle findIsVirtual() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Thread.class, "isVirtual", MethodType.methodType(boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
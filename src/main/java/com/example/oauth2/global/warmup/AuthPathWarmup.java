@@ -0,0 +1,222 @@
+package com.example.oauth2.global.warmup;
+
+import com.example.oauth2.auth.jwt.ParsedToken;
+import com.example.oauth2.auth.jwt.TokenAuthenticator;
+import com.example.oauth2.auth.jwt.TokenProvider;
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.example.oauth2.member.service.RefreshTokenStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배포 직후 인증 경로가 인터프리터로 실행되면서 p99 가 튀지 않도록, 트래픽을 받기 전에 JIT 컴파일을 유도한다.
+ * <ul>
+ *     <li>합성 토큰을 발급하고 검증한다. (TokenProvider)</li>
+ *     <li>Authorization 헤더로 인증 정보를 만든다. (TokenAuthenticator, 서블릿/WebFlux 필터가 사용하는 경로)</li>
+ *     <li>자기 자신에게 토큰을 붙인 요청을 보내서 서버와 보안 필터 체인을 실행한다.</li>
+ *     <li>로그인과 토큰 재발급에서 사용하는 조회 쿼리를 없는 키로 실행한다.</li>
+ * </ul>
+ * ApplicationReadyEvent 를 받으면 별도 스레드에서 실행해서 시작 이벤트를 붙잡지 않는다.
+ * 끝날 때까지 이 빈의 헬스(authPathWarmup)가 OUT_OF_SERVICE 이므로, readiness 그룹에 넣으면 워밍업이 끝난 뒤에 UP 이 된다.
+ * 워밍업이 실패해도 경고만 남기고 끝난 것으로 본다. 워밍업은 최적화일 뿐이라서 노드를 트래픽에서 빼 둘 이유가 없다.
+ * 반복 횟수(app.warmup.iterations)를 채우거나, 최근 반복의 평균 시간이 목표(app.warmup.target-latency-us) 아래로
+ * 내려가면 끝난다. 어느 쪽이든 app.warmup.max-duration-ms 를 넘기지 않는다.
+ * 워밍업에서 실행한 호출도 jwt.*, auth.filter.requests 지표에 집계된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.warmup.enabled", havingValue = "true")
+public class AuthPathWarmup implements HealthIndicator {
+
+    // 인증 없이도 200 을 돌려주는 경로이지만, Authorization 헤더가 있으면 토큰 인증 필터는 그대로 실행된다.
+    private static final String WARMUP_PATH = "/.well-known/jwks.json";
+
+    // 합성 토큰의 회원 ID, 실제 회원과 겹치지 않는다.
+    private static final long SYNTHETIC_MEMBER_ID = -1L;
+
+    private static final OauthInfo SYNTHETIC_OAUTH_INFO = new OauthInfo("warmup", OauthProvider.KAKAO);
+
+    private static final int AUTHORIZATION_POOL_SIZE = 16;
+
+    // 평균 시간을 계산하는 반복 묶음의 크기
+    private static final int WINDOW = 1000;
+
+    private final TokenProvider tokenProvider;
+
+    private final TokenAuthenticator tokenAuthenticator;
+
+    private final MemberRepository memberRepository;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final int iterations;
+
+    private final long targetLatencyNanos;
+
+    private final long maxDurationNanos;
+
+    private final int repositoryIterations;
+
+    private final int httpRequests;
+
+    private volatile boolean finished;
+
+    public AuthPathWarmup(TokenProvider tokenProvider,
+                          TokenAuthenticator tokenAuthenticator,
+                          MemberRepository memberRepository,
+                          RefreshTokenStore refreshTokenStore,
+                          @Value("${app.warmup.iterations:20000}") int iterations,
+                          // 0 이면 반복 횟수만 본다.
+                          @Value("${app.warmup.target-latency-us:0}") long targetLatencyUs,
+                          @Value("${app.warmup.max-duration-ms:30000}") long maxDurationMs,
+                          @Value("${app.warmup.repository-iterations:200}") int repositoryIterations,
+                          @Value("${app.warmup.http-requests:500}") int httpRequests) {
+        this.tokenProvider = tokenProvider;
+        this.tokenAuthenticator = tokenAuthenticator;
+        this.memberRepository = memberRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.iterations = iterations;
+        this.targetLatencyNanos = TimeUnit.MICROSECONDS.toNanos(targetLatencyUs);
+        this.maxDurationNanos = TimeUnit.MILLISECONDS.toNanos(maxDurationMs);
+        this.repositoryIterations = repositoryIterations;
+        this.httpRequests = httpRequests;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startWarmUp(ApplicationReadyEvent event) {
+        Thread thread = new Thread(() -> warmUp(event.getApplicationContext()), "auth-path-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public Health health() {
+        return finished ? Health.up().build() : Health.outOfService().build();
+    }
+
+    /**
+     * 인증 경로를 워밍업하는 메서드이다. 실패하면 경고를 남기고, 어느 경우든 끝나면 헬스를 UP 으로 바꾼다.
+     */
+    void warmUp(ApplicationContext context) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + maxDurationNanos;
+        try {
+            int tokenIterations = warmUpTokens(deadline);
+            int queries = warmUpRepositories(deadline);
+            int requests = warmUpHttp(context, deadline);
+
+            log.info("Warm-up finished in {} ms: {} token iterations, {} repository queries, {} HTTP requests",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), tokenIterations, queries, requests);
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed after {} ms, reporting readiness without it",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), e);
+        } finally {
+            finished = true;
+        }
+    }
+
+    /**
+     * 토큰 발급, 검증, 인증 정보 생성을 반복하는 메서드이다.
+     * 발급과 검증은 매번 새 토큰으로 하고, 인증은 검증된 토큰 캐시를 채우지 않도록 몇 개의 토큰을 돌려 쓴다.
+     * 토큰이 거부되면 설정이 잘못된 것이므로 경고를 남기고 그만둔다.
+     * @return 실행한 반복 횟수
+     */
+    private int warmUpTokens(long deadline) {
+        String[] authorizations = new String[AUTHORIZATION_POOL_SIZE];
+        for (int i = 0; i < authorizations.length; i++) {
+            authorizations[i] = "Bearer " + tokenProvider.generateToken(SYNTHETIC_MEMBER_ID, Duration.ofMinutes(1));
+        }
+
+        long windowStartedAt = System.nanoTime();
+        int i = 0;
+        while (i < iterations && System.nanoTime() < deadline) {
+            String token = tokenProvider.generateToken(SYNTHETIC_MEMBER_ID, Duration.ofMinutes(1));
+            ParsedToken parsedToken = tokenProvider.parse(token);
+            if (!parsedToken.isValid()
+                    || tokenAuthenticator.authenticate(authorizations[i % AUTHORIZATION_POOL_SIZE]) == null) {
+                log.warn("Warm-up token was rejected after {} iterations: {}", i, parsedToken.getStatus());
+                break;
+            }
+            i++;
+
+            if (i % WINDOW == 0) {
+                long now = System.nanoTime();
+                long averageNanos = (now - windowStartedAt) / WINDOW;
+                log.debug("Warm-up token iteration {}: {} ns on average", i, averageNanos);
+                if (averageNanos <= targetLatencyNanos) {
+                    break;
+                }
+                windowStartedAt = now;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * 로그인과 토큰 재발급에서 사용하는 조회를 없는 키로 실행하는 메서드이다. 데이터를 만들거나 바꾸지 않는다.
+     * @return 실행한 쿼리 수
+     */
+    private int warmUpRepositories(long deadline) {
+        int queries = 0;
+        for (int i = 0; i < repositoryIterations && System.nanoTime() < deadline; i++) {
+            memberRepository.findByOauthInfo(SYNTHETIC_OAUTH_INFO);
+            memberRepository.findById(SYNTHETIC_MEMBER_ID);
+            memberRepository.findVersionById(SYNTHETIC_MEMBER_ID);
+            refreshTokenStore.findMemberId("warmup-" + i);
+            queries += 4;
+        }
+        return queries;
+    }
+
+    /**
+     * 토큰을 붙인 요청을 자기 자신에게 보내서 서버와 보안 필터 체인을 실행하는 메서드이다.
+     * 응답 상태는 보지 않는다.
+     * @return 보낸 요청 수
+     */
+    private int warmUpHttp(ApplicationContext context, long deadline) {
+        if (httpRequests <= 0 || !(context instanceof WebServerApplicationContext)) {
+            return 0;
+        }
+        URI uri = URI.create("http://127.0.0.1:" + ((WebServerApplicationContext) context).getWebServer().getPort() + WARMUP_PATH);
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        String authorization = "Bearer " + tokenProvider.generateToken(SYNTHETIC_MEMBER_ID, Duration.ofMinutes(1));
+
+        int requests = 0;
+        try {
+            while (requests < httpRequests && System.nanoTime() < deadline) {
+                client.send(HttpRequest.newBuilder(uri)
+                                .timeout(Duration.ofSeconds(5))
+                                .header("Authorization", authorization)
+                                .GET()
+                                .build(),
+                        HttpResponse.BodyHandlers.discarding());
+                requests++;
+            }
+        } catch (IOException e) {
+            log.warn("Warm-up HTTP requests stopped after {} requests", requests, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return requests;
+    }
+}
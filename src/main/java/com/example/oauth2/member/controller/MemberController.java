@@ -1,31 +1,61 @@
 package com.example.oauth2.member.controller;
 
+import com.example.oauth2.auth.jwt.MemberPrincipal;
 import com.example.oauth2.member.dto.MemberRequest;
 import com.example.oauth2.member.dto.MemberResponse;
 import com.example.oauth2.member.service.MemberService;
-import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.MemberSnapshot;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.security.Principal;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class MemberController {
     private final MemberService memberService;
 
     @GetMapping("/api/member")
-    public MemberResponse getMember(Principal principal) {
-        Member member = memberService.findById(Long.parseLong(principal.getName()));
-        return MemberResponse.builder()
-                .nickname(member.getNickname())
-                .profileImage(member.getProfileImage())
-                .build();
+    public ResponseEntity<MemberResponse> getMember(@AuthenticationPrincipal MemberPrincipal principal, WebRequest webRequest) {
+        long memberId = principal.getMemberId();
+
+        // If-None-Match 가 있으면 DB 의 버전만 비교해서 바뀌지 않았을 때 본문 없이 304 로 응답한다.
+        MemberSnapshot member;
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            long version = memberService.getVersion(memberId);
+            String etag = etag(memberId, version);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .build();
+            }
+            // 다른 노드에서 바뀌었을 수 있으므로 캐시가 DB 버전보다 오래되었으면 다시 읽는다.
+            member = memberService.getSnapshot(memberId, version);
+        } else {
+            member = memberService.getSnapshot(memberId);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag(memberId, member.getVersion()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(MemberResponse.builder()
+                        .nickname(member.getNickname())
+                        .profileImage(member.getProfileImage())
+                        .build());
     }
 
     @PatchMapping("/api/member")
-    public void updateMember(@RequestBody MemberRequest request, Principal principal) {
-        Member member = memberService.findById(Long.parseLong(principal.getName()));
-        memberService.update(request, member);
+    public void updateMember(@RequestBody MemberRequest request, @AuthenticationPrincipal MemberPrincipal principal) {
+        memberService.update(principal.getMemberId(), request);
+    }
+
+    static String etag(long memberId, long version) {
+        return "\"" + memberId + "-" + version + "\"";
     }
 }
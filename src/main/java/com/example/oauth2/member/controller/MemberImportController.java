@@ -0,0 +1,54 @@
+package com.example.oauth2.member.controller;
+
+import com.example.oauth2.member.dto.MemberImportResponse;
+import com.example.oauth2.member.service.MemberImportService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * 기존 시스템의 회원을 옮길 때만 member.import.enabled=true 로 켜는 대량 가입 API 이다.
+ * 회원 토큰 대신 member.import.token 에 설정한 값을 X-Import-Token 헤더로 보내야 한다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "member.import.enabled", havingValue = "true")
+public class MemberImportController {
+    private final MemberImportService memberImportService;
+
+    private final byte[] importToken;
+
+    public MemberImportController(MemberImportService memberImportService,
+                                  @Value("${member.import.token}") String importToken) {
+        if (importToken.isEmpty()) {
+            throw new IllegalStateException("member.import.token must be set when member.import.enabled=true");
+        }
+        this.memberImportService = memberImportService;
+        this.importToken = importToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 요청 본문을 application/x-ndjson 으로 받아 스트리밍으로 처리한다.
+     */
+    @PostMapping("/api/admin/members/import")
+    public ResponseEntity<MemberImportResponse> importMembers(@RequestHeader(name = "X-Import-Token", required = false) String token,
+                                                              HttpServletRequest request) throws IOException {
+        if (token == null || !MessageDigest.isEqual(importToken, token.getBytes(StandardCharsets.UTF_8))) {
+            return new ResponseEntity<>(HttpStatus.FORBIDDEN);
+        }
+
+        MemberImportResponse response = memberImportService.importMembers(request.getInputStream());
+        return ResponseEntity.status(response.getError() == null ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(response);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.oauth2.member.controller;
+
+import com.example.oauth2.auth.jwt.MemberPrincipal;
+import com.example.oauth2.member.domain.MemberSnapshot;
+import com.example.oauth2.member.dto.MemberRequest;
+import com.example.oauth2.member.dto.MemberResponse;
+import com.example.oauth2.member.service.MemberService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * MemberController 의 WebFlux 버전이다. DB 에 접근하는 작업은 JPA 스케줄러에서 실행한다.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveMemberController {
+    private final MemberService memberService;
+
+    private final Scheduler jpaScheduler;
+
+    public ReactiveMemberController(MemberService memberService,
+                                    @Qualifier("jpaScheduler") Scheduler jpaScheduler) {
+        this.memberService = memberService;
+        this.jpaScheduler = jpaScheduler;
+    }
+
+    @GetMapping("/api/member")
+    public Mono<ResponseEntity<MemberResponse>> getMember(@AuthenticationPrincipal MemberPrincipal principal, ServerWebExchange exchange) {
+        long memberId = principal.getMemberId();
+
+        if (exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) == null) {
+            return Mono.fromCallable(() -> memberService.getSnapshot(memberId))
+                    .subscribeOn(jpaScheduler)
+                    .map(member -> toResponse(memberId, member));
+        }
+
+        // If-None-Match 가 있으면 DB 의 버전만 비교해서 바뀌지 않았을 때 본문 없이 304 로 응답한다.
+        return Mono.fromCallable(() -> memberService.getVersion(memberId))
+                .subscribeOn(jpaScheduler)
+                .flatMap(version -> {
+                    if (exchange.checkNotModified(MemberController.etag(memberId, version))) {
+                        return Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .cacheControl(CacheControl.noCache().cachePrivate())
+                                .<MemberResponse>build());
+                    }
+                    // 다른 노드에서 바뀌었을 수 있으므로 캐시가 DB 버전보다 오래되었으면 다시 읽는다.
+                    return Mono.fromCallable(() -> memberService.getSnapshot(memberId, version))
+                            .subscribeOn(jpaScheduler)
+                            .map(member -> toResponse(memberId, member));
+                });
+    }
+
+    @PatchMapping("/api/member")
+    public Mono<Void> updateMember(@RequestBody MemberRequest request, @AuthenticationPrincipal MemberPrincipal principal) {
+        return Mono.<Void>fromRunnable(() -> memberService.update(principal.getMemberId(), request))
+                .subscribeOn(jpaScheduler);
+    }
+
+    private static ResponseEntity<MemberResponse> toResponse(long memberId, MemberSnapshot member) {
+        return ResponseEntity.ok()
+                .eTag(MemberController.etag(memberId, member.getVersion()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(MemberResponse.builder()
+                        .nickname(member.getNickname())
+                        .profileImage(member.getProfileImage())
+                        .build());
+    }
+}
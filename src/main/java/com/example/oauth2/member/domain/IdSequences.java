@@ -0,0 +1,13 @@
+package com.example.oauth2.member.domain;
+
+/**
+ * 시퀀스로 id 를 만드는 엔티티(Member, RefreshToken)가 함께 쓰는 값이다.
+ */
+public final class IdSequences {
+
+    // @SequenceGenerator 의 allocationSize, IdSequenceMigration 도 이 간격으로 시퀀스를 만든다.
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
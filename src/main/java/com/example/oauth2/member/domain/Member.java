@@ -1,5 +1,6 @@
 package com.example.oauth2.member.domain;
 
+import com.example.oauth2.member.service.MemberCacheInvalidator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -8,13 +9,18 @@ import lombok.NoArgsConstructor;
 import javax.persistence.*;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_member_oauth_info", columnNames = {"oauth_id", "provider"}))
+@EntityListeners(MemberCacheInvalidator.class)
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
 public class Member {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 시퀀스와 pooled 옵티마이저를 사용해야 Hibernate 가 INSERT 를 JDBC 배치로 묶을 수 있다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq")
+    @SequenceGenerator(name = "member_seq", sequenceName = "member_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     private String nickname;
@@ -26,14 +32,15 @@ public class Member {
 
     private String accessToken;
 
+    // 프로필이 바뀔 때마다 증가하는 버전으로, /api/member 의 ETag 로 사용한다.
+    // 동시에 수정해도 값이 겹치지 않도록 MemberRepository.updateProfile 에서 SQL 로 올린다.
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    private long version;
+
+    // 액세스 토큰은 /api/member 응답에 포함되지 않으므로 버전을 올리지 않는다.
+    // 프로필 수정은 버전을 함께 올려야 하므로 엔티티 메서드 대신 MemberRepository.updateProfile 을 쓴다.
     public Member update(String accessToken) {
         this.accessToken = accessToken;
         return this;
     }
-
-    public Member update(String nickname, String profileImage) {
-        this.nickname = nickname;
-        this.profileImage = profileImage;
-        return this;
-    }
 }
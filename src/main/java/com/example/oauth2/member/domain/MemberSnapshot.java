@@ -0,0 +1,29 @@
+package com.example.oauth2.member.domain;
+
+import lombok.Getter;
+
+/**
+ * 캐시에 보관하는 회원 정보의 불변 스냅샷이다.
+ */
+@Getter
+public final class MemberSnapshot {
+
+    private final Long id;
+
+    private final String nickname;
+
+    private final String profileImage;
+
+    private final long version;
+
+    private MemberSnapshot(Long id, String nickname, String profileImage, long version) {
+        this.id = id;
+        this.nickname = nickname;
+        this.profileImage = profileImage;
+        this.version = version;
+    }
+
+    public static MemberSnapshot of(Member member) {
+        return new MemberSnapshot(member.getId(), member.getNickname(), member.getProfileImage(), member.getVersion());
+    }
+}
@@ -3,19 +3,27 @@ package com.example.oauth2.member.domain;
 import com.example.oauth2.auth.oauth.OauthProvider;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import javax.persistence.Column;
 import javax.persistence.Embeddable;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 
 @Embeddable
+@Getter
+@EqualsAndHashCode
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OauthInfo {
 
+    // 컬럼 이름은 Member 의 유니크 제약 uk_member_oauth_info 에서 사용한다.
+    @Column(name = "oauth_id")
     private String oauthId;
 
+    @Column(name = "provider")
     @Enumerated(EnumType.STRING)
     private OauthProvider provider;
 }
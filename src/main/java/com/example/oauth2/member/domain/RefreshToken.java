@@ -1,5 +1,6 @@
 package com.example.oauth2.member.domain;
 
+import com.example.oauth2.global.util.DigestUtil;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -9,25 +10,56 @@ import javax.persistence.*;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(indexes = @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt"))
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq")
+    @SequenceGenerator(name = "refresh_token_seq", sequenceName = "refresh_token_seq", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
     private Long memberId;
 
-    @Column(nullable = false)
-    private String refreshToken;
+    // 토큰 원문 대신 고정 길이 SHA-256 다이제스트만 저장하고, 유니크 인덱스로 조회한다.
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
 
-    public RefreshToken(Long memberId, String refreshToken) {
+    // 토큰 만료 시각(epoch millis), 만료된 행은 RefreshTokenPurger 가 지운다.
+    // 컬럼을 추가하기 전에 저장된 행은 null 이며, 처음 정리할 때 만료 시각의 상한으로 채운다.
+    private Long expiresAt;
+
+    public RefreshToken(Long memberId, String refreshToken, long expiresAt) {
         this.memberId = memberId;
-        this.refreshToken = refreshToken;
+        this.tokenHash = hash(refreshToken);
+        this.expiresAt = expiresAt;
+    }
+
+    public RefreshToken update(String newRefreshToken, long expiresAt) {
+        return updateHash(hash(newRefreshToken), expiresAt);
     }
 
-    public RefreshToken update(String newRefreshToken) {
-        this.refreshToken = newRefreshToken;
+    /**
+     * 이미 계산된 다이제스트로 리프레시 토큰 엔티티를 만드는 메서드이다.
+     */
+    public static RefreshToken ofHash(Long memberId, String tokenHash, long expiresAt) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.memberId = memberId;
+        refreshToken.tokenHash = tokenHash;
+        refreshToken.expiresAt = expiresAt;
+        return refreshToken;
+    }
+
+    public RefreshToken updateHash(String newTokenHash, long expiresAt) {
+        this.tokenHash = newTokenHash;
+        this.expiresAt = expiresAt;
         return this;
     }
+
+    /**
+     * 리프레시 토큰을 저장/조회에 사용하는 다이제스트로 변환하는 메서드이다.
+     */
+    public static String hash(String refreshToken) {
+        return DigestUtil.sha256Hex(refreshToken);
+    }
 }
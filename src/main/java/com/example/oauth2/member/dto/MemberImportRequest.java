@@ -0,0 +1,22 @@
+package com.example.oauth2.member.dto;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량 가입 요청(NDJSON)의 한 줄
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MemberImportRequest {
+    private String oauthId;
+
+    private OauthProvider provider;
+
+    private String nickname;
+
+    private String profileImage;
+}
@@ -0,0 +1,27 @@
+package com.example.oauth2.member.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class MemberImportResponse {
+    // 새로 저장한 회원 수
+    private long imported;
+
+    // 이미 가입되어 있어서 건너뛴 회원 수
+    private long skipped;
+
+    // 형식이 잘못되어 건너뛴 줄 수
+    private long invalid;
+
+    // 형식이 잘못된 줄 번호 (앞쪽 일부)
+    private List<Long> invalidLines;
+
+    private long elapsedMs;
+
+    // 중간에 실패했으면 그 이유, 그 전 청크까지는 커밋되어 있다.
+    private String error;
+}
@@ -0,0 +1,73 @@
+package com.example.oauth2.member.repository;
+
+import com.example.oauth2.member.domain.IdSequences;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.Locale;
+
+/**
+ * IDENTITY 로 id 를 만들던 기존 테이블에 시퀀스를 만들어 둔다.
+ * Hibernate 가 시퀀스를 1 부터 새로 만들면 기존 id 와 겹치므로, 스키마를 갱신하기 전에
+ * 현재 최대 id 보다 한 할당 구간 뒤에서 시작하는 시퀀스를 먼저 만든다.
+ * 테이블이 없거나 시퀀스가 이미 있으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class IdSequenceMigration implements InitializingBean {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceMigration(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        createSequence("member", "member_seq");
+        createSequence("refresh_token", "refresh_token_seq");
+    }
+
+    private void createSequence(String table, String sequence) {
+        Long maxId;
+        try {
+            maxId = jdbcTemplate.queryForObject("select max(id) from " + table, Long.class);
+        } catch (DataAccessException e) { // 테이블이 아직 없으면 Hibernate 가 새로 만든다.
+            return;
+        }
+
+        Integer sequences;
+        try {
+            sequences = jdbcTemplate.queryForObject(
+                    "select count(*) from information_schema.sequences where lower(sequence_name) = ?",
+                    Integer.class, sequence.toLowerCase(Locale.ROOT));
+        } catch (DataAccessException e) {
+            log.warn("Cannot inspect sequences, create {} manually starting after max({}.id)", sequence, table);
+            return;
+        }
+        if (sequences != null && sequences > 0) {
+            return;
+        }
+
+        // pooled 옵티마이저는 시퀀스 값을 할당 구간의 끝으로 쓰므로, 첫 구간이 기존 id 뒤에 오도록 한다.
+        long start = (maxId == null ? 0 : maxId) + IdSequences.ALLOCATION_SIZE + 1;
+        jdbcTemplate.execute("create sequence " + sequence + " start with " + start + " increment by " + IdSequences.ALLOCATION_SIZE);
+        log.info("Created {} starting at {} for existing {} rows", sequence, start, table);
+    }
+
+    /**
+     * EntityManagerFactory 가 이 마이그레이션 이후에 초기화되도록 한다.
+     */
+    @Configuration
+    static class EntityManagerFactoryDependsOnIdSequenceMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnIdSequenceMigration() {
+            super("idSequenceMigration");
+        }
+    }
+}
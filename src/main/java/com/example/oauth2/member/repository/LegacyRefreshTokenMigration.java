@@ -0,0 +1,108 @@
+package com.example.oauth2.member.repository;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 리프레시 토큰 원문을 저장하던 기존 refresh_token 테이블을 다이제스트 컬럼으로 옮긴다.
+ * Hibernate 가 스키마를 갱신하기 전에 실행되어야 하므로 EntityManagerFactory 보다 먼저 초기화된다.
+ * 원문 컬럼이 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class LegacyRefreshTokenMigration implements InitializingBean {
+
+    private static final String TABLE = "refresh_token";
+    private static final String LEGACY_COLUMN = "refresh_token";
+    private static final String HASH_COLUMN = "token_hash";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+
+    private final int batchSize;
+
+    public LegacyRefreshTokenMigration(DataSource dataSource,
+                                       @Value("${jwt.refresh-token.migrate-legacy:true}") boolean enabled,
+                                       @Value("${jwt.refresh-token.migration-batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        Set<String> columns = columns();
+        if (!columns.contains(LEGACY_COLUMN)) {
+            return;
+        }
+
+        log.info("Migrating raw refresh tokens to {} in batches of {}", HASH_COLUMN, batchSize);
+        if (!columns.contains(HASH_COLUMN)) {
+            jdbcTemplate.execute("alter table " + TABLE + " add " + HASH_COLUMN + " varchar(64)");
+        }
+
+        long lastId = 0;
+        long migrated = 0;
+        while (true) {
+            jdbcTemplate.setMaxRows(batchSize);
+            List<Object[]> rows = jdbcTemplate.query(
+                    "select id, " + LEGACY_COLUMN + " from " + TABLE
+                            + " where " + HASH_COLUMN + " is null and id > ? order by id",
+                    (rs, rowNum) -> new Object[]{RefreshToken.hash(rs.getString(2)), rs.getLong(1)},
+                    lastId);
+            jdbcTemplate.setMaxRows(-1);
+            if (rows.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("update " + TABLE + " set " + HASH_COLUMN + " = ? where id = ?", rows);
+            lastId = (Long) rows.get(rows.size() - 1)[1];
+            migrated += rows.size();
+        }
+
+        // 원문은 더 이상 보관하지 않는다.
+        jdbcTemplate.execute("alter table " + TABLE + " drop column " + LEGACY_COLUMN);
+        log.info("Migrated {} refresh tokens and dropped the {} column", migrated, LEGACY_COLUMN);
+    }
+
+    private Set<String> columns() {
+        Set<String> columns = new TreeSet<>();
+        try {
+            jdbcTemplate.query("select * from " + TABLE + " where 1 = 0", rs -> {
+                for (int i = 1; i <= rs.getMetaData().getColumnCount(); i++) {
+                    columns.add(rs.getMetaData().getColumnName(i).toLowerCase(Locale.ROOT));
+                }
+                return null;
+            });
+        } catch (DataAccessException e) { // 테이블이 아직 없으면 옮길 데이터도 없다.
+            return columns;
+        }
+        return columns;
+    }
+
+    /**
+     * EntityManagerFactory 가 이 마이그레이션 이후에 초기화되도록 한다.
+     */
+    @Configuration
+    static class EntityManagerFactoryDependsOnMigration extends EntityManagerFactoryDependsOnPostProcessor {
+        EntityManagerFactoryDependsOnMigration() {
+            super("legacyRefreshTokenMigration");
+        }
+    }
+}
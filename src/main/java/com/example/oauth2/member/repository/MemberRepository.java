@@ -1,11 +1,35 @@
 package com.example.oauth2.member.repository;
 
+import com.example.oauth2.auth.oauth.OauthProvider;
 import com.example.oauth2.member.domain.OauthInfo;
 import com.example.oauth2.member.domain.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
+    // (oauth_id, provider) 유니크 제약 uk_member_oauth_info 의 인덱스를 사용한다.
     Optional<Member> findByOauthInfo(OauthInfo oauthInfo);
+
+    // 엔티티를 읽지 않고 기본 키로 바로 갱신한다. 버전을 올리지 않으므로 액세스 토큰처럼 스냅샷에 없는 컬럼에만 쓴다.
+    @Modifying
+    @Query("update Member m set m.accessToken = :accessToken where m.id = :id")
+    int updateAccessToken(@Param("id") Long id, @Param("accessToken") String accessToken);
+
+    // 버전을 읽어서 올리지 않고 UPDATE 안에서 올리므로, 동시에 수정해도 수정마다 다른 버전이 된다.
+    // 엔티티 리스너가 호출되지 않으므로 회원 캐시는 호출한 쪽에서 지운다.
+    @Modifying
+    @Query("update Member m set m.nickname = :nickname, m.profileImage = :profileImage, m.version = m.version + 1 where m.id = :id")
+    int updateProfile(@Param("id") Long id, @Param("nickname") String nickname, @Param("profileImage") String profileImage);
+
+    @Query("select m.version from Member m where m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("select m.oauthInfo.oauthId from Member m where m.oauthInfo.provider = :provider and m.oauthInfo.oauthId in :oauthIds")
+    List<String> findExistingOauthIds(@Param("provider") OauthProvider provider, @Param("oauthIds") Collection<String> oauthIds);
 }
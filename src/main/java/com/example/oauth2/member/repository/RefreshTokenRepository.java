@@ -1,12 +1,58 @@
 package com.example.oauth2.member.repository;
 
 import com.example.oauth2.member.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByMemberId(Long memberId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
-}
 
+    /**
+     * 토큰 해시로 리프레시 토큰 주인의 회원 ID 만 조회한다. 회원이 없으면 비어 있다.
+     * token_hash 유니크 인덱스와 회원 기본 키로 한 번에 확인하고 엔티티는 만들지 않는다.
+     */
+    @Query("select r.memberId from RefreshToken r join Member m on m.id = r.memberId where r.tokenHash = :tokenHash")
+    Optional<Long> findMemberIdByTokenHash(@Param("tokenHash") String tokenHash);
+
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.memberId = :memberId")
+    int deleteByMemberId(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.memberId in :memberIds")
+    int deleteAllByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    List<RefreshToken> findAllByMemberIdIn(Collection<Long> memberIds);
+    List<RefreshToken> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 만료된 행의 id 를 expires_at 인덱스 순서로 최대 한 페이지만 조회한다.
+     */
+    @Query("select r.id from RefreshToken r where r.expiresAt < :now order by r.expiresAt")
+    List<Long> findExpiredIds(@Param("now") long now, Pageable pageable);
+
+    /**
+     * 조회한 뒤 새 토큰으로 바뀐 행은 지우지 않도록 만료 조건을 다시 확인한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken r where r.id in :ids and r.expiresAt < :now")
+    int deleteExpiredByIds(@Param("ids") Collection<Long> ids, @Param("now") long now);
+
+    @Query("select r.id from RefreshToken r where r.expiresAt is null order by r.id")
+    List<Long> findIdsWithoutExpiresAt(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update RefreshToken r set r.expiresAt = :expiresAt where r.id in :ids and r.expiresAt is null")
+    int fillMissingExpiresAt(@Param("ids") Collection<Long> ids, @Param("expiresAt") long expiresAt);
+}
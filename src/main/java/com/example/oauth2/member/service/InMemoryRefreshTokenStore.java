@@ -0,0 +1,248 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import com.example.oauth2.member.repository.RefreshTokenRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리의 동시성 맵에서 리프레시 토큰을 읽고 쓰는 저장소이다.
+ * 변경된 회원 ID 만 모아 두었다가 주기적으로 한 트랜잭션에 묶어 DB 에 기록하고(write-behind),
+ * 시작할 때 DB 의 내용을 다시 읽어 들인다.
+ * <p>
+ * 노드가 하나일 때만 사용해야 한다. 다른 노드가 토큰을 바꾸거나 지워도 이 노드의 메모리에는 알려지지 않으므로,
+ * 이전 토큰이 이 노드에서는 만료될 때까지 계속 통한다. 여러 노드로 운영하면 jpa 저장소를 사용한다.
+ * 메모리에 없는 토큰은 DB 에서 한 번 더 찾아보지만, 이 노드가 이미 바꾼 회원의 이전 토큰은 아직 DB 에 남아 있어도 거부한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+
+    private final long flushIntervalMs;
+
+    private final Map<String, Long> memberIdsByHash = new ConcurrentHashMap<>();
+
+    private final Map<Long, String> hashesByMemberId = new ConcurrentHashMap<>();
+
+    private final Map<Long, Long> expiresAtByMemberId = new ConcurrentHashMap<>();
+
+    // 아직 DB 에 기록하지 않은 회원 ID
+    private final Set<Long> dirtyMemberIds = ConcurrentHashMap.newKeySet();
+
+    // 메모리에서는 지웠지만 아직 DB 에서 지우지 않은 회원 ID
+    private final Set<Long> deletedMemberIds = ConcurrentHashMap.newKeySet();
+
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "refresh-token-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InMemoryRefreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${jwt.refresh-token.write-behind.batch-size:500}") int batchSize,
+                                     @Value("${jwt.refresh-token.write-behind.flush-interval-ms:200}") long flushIntervalMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    /**
+     * DB 에 기록된 리프레시 토큰을 키셋 페이지 단위로 읽어 메모리에 복구한다.
+     */
+    @PostConstruct
+    public void recover() {
+        long lastId = 0;
+        while (true) {
+            List<RefreshToken> page = refreshTokenRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, batchSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            for (RefreshToken refreshToken : page) {
+                memberIdsByHash.put(refreshToken.getTokenHash(), refreshToken.getMemberId());
+                hashesByMemberId.put(refreshToken.getMemberId(), refreshToken.getTokenHash());
+                if (refreshToken.getExpiresAt() != null) {
+                    expiresAtByMemberId.put(refreshToken.getMemberId(), refreshToken.getExpiresAt());
+                }
+            }
+            lastId = page.get(page.size() - 1).getId();
+        }
+        log.info("Recovered {} refresh tokens into memory", hashesByMemberId.size());
+        log.warn("In-memory refresh token store is single-node only; use jwt.refresh-token.store=jpa when running more than one node");
+
+        flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void save(Long memberId, String refreshToken, long expiresAt) {
+        String tokenHash = RefreshToken.hash(refreshToken);
+        // 회원 단위로 원자적으로 바꾸어 이전 토큰이 역방향 맵에 남지 않게 한다.
+        hashesByMemberId.compute(memberId, (id, previousHash) -> {
+            if (previousHash != null && !previousHash.equals(tokenHash)) {
+                memberIdsByHash.remove(previousHash, id);
+            }
+            memberIdsByHash.put(tokenHash, id);
+            expiresAtByMemberId.put(id, expiresAt);
+            return tokenHash;
+        });
+        deletedMemberIds.remove(memberId);
+        dirtyMemberIds.add(memberId);
+    }
+
+    @Override
+    public Optional<Long> findMemberId(String refreshToken) {
+        String tokenHash = RefreshToken.hash(refreshToken);
+        Long memberId = memberIdsByHash.get(tokenHash);
+        if (memberId != null) {
+            return Optional.of(memberId);
+        }
+        // 아직 기록하지 않은 새 토큰으로 바꾸었거나 지운 회원이면, DB 에 남아 있는 이전 토큰은 통과시키지 않는다.
+        return refreshTokenRepository.findMemberIdByTokenHash(tokenHash)
+                .filter(id -> {
+                    if (deletedMemberIds.contains(id)) {
+                        return false;
+                    }
+                    String currentHash = hashesByMemberId.get(id);
+                    return currentHash == null || currentHash.equals(tokenHash);
+                });
+    }
+
+    /**
+     * 메모리에서 지우고 삭제를 표시해 두면, DB 의 행은 다음 flush 가 지운다.
+     * 진행 중인 flush 를 기다리지 않으므로 로그아웃이 write-behind 배치 뒤에 막히지 않는다.
+     * 그 flush 가 이전 값을 기록하더라도 표시가 남아 있어서 다음 flush 가 다시 지운다.
+     */
+    @Override
+    public void delete(Long memberId) {
+        hashesByMemberId.computeIfPresent(memberId, (id, tokenHash) -> {
+            memberIdsByHash.remove(tokenHash, id);
+            expiresAtByMemberId.remove(id);
+            return null;
+        });
+        deletedMemberIds.add(memberId);
+        dirtyMemberIds.add(memberId);
+    }
+
+    /**
+     * 만료된 토큰을 메모리에서 버린다. 아직 기록하지 않은 회원은 건너뛴다.
+     */
+    @Override
+    public void evictExpired(long now) {
+        for (Map.Entry<Long, Long> entry : expiresAtByMemberId.entrySet()) {
+            if (entry.getValue() >= now || dirtyMemberIds.contains(entry.getKey())) {
+                continue;
+            }
+            hashesByMemberId.computeIfPresent(entry.getKey(), (id, tokenHash) -> {
+                // 그 사이에 새 토큰이 저장되었으면 그대로 둔다.
+                Long expiresAt = expiresAtByMemberId.get(id);
+                if (expiresAt == null || expiresAt >= now) {
+                    return tokenHash;
+                }
+                memberIdsByHash.remove(tokenHash, id);
+                expiresAtByMemberId.remove(id);
+                return null;
+            });
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        while (!dirtyMemberIds.isEmpty()) {
+            flush();
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            while (!dirtyMemberIds.isEmpty()) {
+                flush();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write refresh tokens behind, will retry", e);
+        }
+    }
+
+    /**
+     * 변경된 회원 ID 를 최대 batchSize 개 꺼내서 한 트랜잭션으로 기록하거나 지운다. 실패하면 다시 표시해 둔다.
+     */
+    private synchronized void flush() {
+        List<Long> memberIds = new ArrayList<>(batchSize);
+        Iterator<Long> iterator = dirtyMemberIds.iterator();
+        while (iterator.hasNext() && memberIds.size() < batchSize) {
+            memberIds.add(iterator.next());
+            iterator.remove();
+        }
+        if (memberIds.isEmpty()) {
+            return;
+        }
+
+        List<Long> deletedIds = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, RefreshToken> existing = refreshTokenRepository.findAllByMemberIdIn(memberIds).stream()
+                        .collect(Collectors.toMap(RefreshToken::getMemberId, Function.identity()));
+
+                List<RefreshToken> entities = new ArrayList<>(memberIds.size());
+                for (Long memberId : memberIds) {
+                    // 기록 시점의 최신 값을 쓴다.
+                    String tokenHash = hashesByMemberId.get(memberId);
+                    Long expiresAt = expiresAtByMemberId.get(memberId);
+                    if (tokenHash == null || expiresAt == null) {
+                        // 지운 토큰이면 DB 에서도 지우고, 만료되어 메모리에서 버린 토큰이면 그대로 둔다.
+                        if (deletedMemberIds.contains(memberId)) {
+                            deletedIds.add(memberId);
+                        }
+                        continue;
+                    }
+                    RefreshToken entity = existing.get(memberId);
+                    entities.add(entity == null
+                            ? RefreshToken.ofHash(memberId, tokenHash, expiresAt)
+                            : entity.updateHash(tokenHash, expiresAt));
+                }
+                refreshTokenRepository.saveAll(entities);
+                if (!deletedIds.isEmpty()) {
+                    refreshTokenRepository.deleteAllByMemberIdIn(deletedIds);
+                }
+            });
+        } catch (RuntimeException e) {
+            dirtyMemberIds.addAll(memberIds);
+            throw e;
+        }
+        // 기록하는 동안 다시 지운 회원은 다음 flush 에서 한 번 더 지우도록 표시를 남긴다.
+        for (Long memberId : deletedIds) {
+            if (!dirtyMemberIds.contains(memberId)) {
+                deletedMemberIds.remove(memberId);
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import com.example.oauth2.member.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    @Transactional
+    public void save(Long memberId, String refreshToken, long expiresAt) {
+        RefreshToken entity = refreshTokenRepository.findByMemberId(memberId)
+                .map(token -> token.update(refreshToken, expiresAt))
+                .orElse(new RefreshToken(memberId, refreshToken, expiresAt));
+
+        refreshTokenRepository.save(entity);
+    }
+
+    // 쿼리 한 번이므로 트랜잭션을 열지 않는다.
+    @Override
+    public Optional<Long> findMemberId(String refreshToken) {
+        return refreshTokenRepository.findMemberIdByTokenHash(RefreshToken.hash(refreshToken));
+    }
+
+    @Override
+    public void delete(Long memberId) {
+        refreshTokenRepository.deleteByMemberId(memberId);
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.MemberSnapshot;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 회원 스냅샷을 보관하는 read-through 캐시이다. TTL 과 최대 크기로 항목을 내보낸다.
+ */
+@Component
+public class MemberCache {
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    private final long ttlMs;
+
+    private final int maxSize;
+
+    // 무효화가 일어날 때마다 증가한다. 로딩 도중 무효화된 값은 캐시에 넣지 않는다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public MemberCache(@Value("${member.cache.ttl-ms:300000}") long ttlMs,
+                       @Value("${member.cache.max-size:10000}") int maxSize,
+                       MeterRegistry meterRegistry) {
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+
+        resultCounter("hit", hits, meterRegistry);
+        resultCounter("miss", misses, meterRegistry);
+        FunctionCounter.builder("member.cache.evictions", evictions, LongAdder::sum)
+                .description("Member snapshots evicted because they expired or the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("member.cache.size", entries, Map::size)
+                .description("Member snapshots held in the cache")
+                .register(meterRegistry);
+    }
+
+    private static void resultCounter(String result, LongAdder adder, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("member.cache", adder, LongAdder::sum)
+                .description("Member snapshot cache lookups, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 회원 스냅샷을 조회하고, 없거나 만료되었으면 loader 로 읽어서 보관하는 메서드이다.
+     * @param memberId 회원 ID
+     * @param loader 캐시에 없을 때 회원 스냅샷을 읽는 함수
+     * @return 회원 스냅샷
+     */
+    public MemberSnapshot get(Long memberId, Function<Long, MemberSnapshot> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(memberId);
+        if (entry != null) {
+            if (entry.expiresAt > now) {
+                hits.increment();
+                return entry.snapshot;
+            }
+            if (entries.remove(memberId, entry)) {
+                evictions.increment();
+            }
+        }
+        misses.increment();
+
+        long invalidationsBeforeLoad = invalidations.get();
+        MemberSnapshot snapshot = loader.apply(memberId);
+        if (maxSize > 0 && invalidations.get() == invalidationsBeforeLoad) {
+            if (entries.size() >= maxSize) {
+                evict(now);
+            }
+            entries.put(memberId, new Entry(snapshot, now + ttlMs));
+        }
+        return snapshot;
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 캐시에서 지우는 메서드이다.
+     */
+    public void invalidate(Long memberId) {
+        invalidations.incrementAndGet();
+        entries.remove(memberId);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 용량의 1/16 만큼 임의의 항목을 지운다.
+     */
+    private void evict(long now) {
+        entries.values().removeIf(entry -> {
+            if (entry.expiresAt <= now) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        });
+
+        int target = maxSize - Math.max(1, maxSize / 16);
+        Iterator<Long> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry {
+        private final MemberSnapshot snapshot;
+        private final long expiresAt;
+
+        private Entry(MemberSnapshot snapshot, long expiresAt) {
+            this.snapshot = snapshot;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
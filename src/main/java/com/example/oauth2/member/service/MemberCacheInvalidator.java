@@ -0,0 +1,54 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.Member;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * Member 엔티티가 수정되거나 삭제되면 회원 캐시에서 지우는 JPA 엔티티 리스너이다.
+ * 커밋 전에 다른 요청이 이전 값을 다시 읽어 캐시에 넣을 수 있으므로 커밋 후에 한 번 더 지운다.
+ * 삭제된 회원은 OAuth 식별 정보로 찾는 회원 ID 캐시에서도 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCacheInvalidator {
+
+    private final MemberCache memberCache;
+
+    private final OauthMemberIdCache oauthMemberIdCache;
+
+    @PostUpdate
+    public void onChange(Member member) {
+        invalidate(member.getId());
+    }
+
+    /**
+     * 회원 캐시에서 지우고, 트랜잭션 안이면 커밋 후에 한 번 더 지우는 메서드이다.
+     * 엔티티 리스너를 거치지 않는 벌크 UPDATE 뒤에 호출한다.
+     */
+    public void invalidate(Long memberId) {
+        memberCache.invalidate(memberId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    memberCache.invalidate(memberId);
+                }
+            });
+        }
+    }
+
+    @PostRemove
+    public void onRemove(Member member) {
+        if (member.getOauthInfo() != null) {
+            oauthMemberIdCache.invalidate(member.getOauthInfo());
+        }
+        onChange(member);
+    }
+}
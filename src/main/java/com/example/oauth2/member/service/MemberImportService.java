@@ -0,0 +1,182 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.dto.MemberImportRequest;
+import com.example.oauth2.member.dto.MemberImportResponse;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * NDJSON 으로 받은 회원을 청크 단위로 나누어 저장한다.
+ * 입력을 한 줄씩 읽으므로 전체를 메모리에 올리지 않고, 청크마다 커밋한 뒤 영속성 컨텍스트를 비운다.
+ * 이미 가입된 (provider, oauthId) 는 건너뛰므로 실패한 뒤 같은 입력으로 다시 실행해도 된다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "member.import.enabled", havingValue = "true")
+public class MemberImportService {
+
+    private static final int MAX_REPORTED_INVALID_LINES = 100;
+
+    private final MemberRepository memberRepository;
+
+    private final EntityManager entityManager;
+
+    private final ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+
+    public MemberImportService(MemberRepository memberRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${member.import.chunk-size:1000}") int chunkSize) {
+        this.memberRepository = memberRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 한 줄에 회원 하나씩 담긴 NDJSON 을 읽어서 저장하는 메서드이다.
+     * @param ndjson 입력 스트림
+     * @return 처리 결과 요약
+     */
+    public MemberImportResponse importMembers(InputStream ndjson) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        long imported = 0;
+        long skipped = 0;
+        long invalid = 0;
+        List<Long> invalidLines = new ArrayList<>();
+        String error = null;
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<MemberImportRequest> chunk = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        String line;
+        while (true) {
+            line = reader.readLine();
+            if (line != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                MemberImportRequest request = parse(line);
+                if (request == null) {
+                    invalid++;
+                    if (invalidLines.size() < MAX_REPORTED_INVALID_LINES) {
+                        invalidLines.add(lineNumber);
+                    }
+                    continue;
+                }
+                chunk.add(request);
+            }
+
+            boolean endOfInput = line == null;
+            if (chunk.size() >= chunkSize || (endOfInput && !chunk.isEmpty())) {
+                try {
+                    long importedInChunk = importChunk(chunk);
+                    imported += importedInChunk;
+                    skipped += chunk.size() - importedInChunk;
+                } catch (RuntimeException e) {
+                    log.warn("Member import failed in the chunk ending at line {}", lineNumber, e);
+                    error = "Failed in the chunk ending at line " + lineNumber + ": " + e.getMessage();
+                    break;
+                }
+                chunk.clear();
+
+                long elapsedMs = Math.max(1, System.currentTimeMillis() - startedAt);
+                log.info("Member import progress: line {}, {} imported, {} skipped, {} invalid, {} rows/s",
+                        lineNumber, imported, skipped, invalid, (imported + skipped) * 1000 / elapsedMs);
+            }
+            if (endOfInput) {
+                break;
+            }
+        }
+
+        return MemberImportResponse.builder()
+                .imported(imported)
+                .skipped(skipped)
+                .invalid(invalid)
+                .invalidLines(invalidLines)
+                .elapsedMs(System.currentTimeMillis() - startedAt)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장한다. 이미 가입된 회원과 청크 안의 중복은 건너뛴다.
+     * @return 새로 저장한 회원 수
+     */
+    private long importChunk(List<MemberImportRequest> chunk) {
+        Long imported = transactionTemplate.execute(status -> {
+            // 제공자별로 한 번씩만 기존 회원을 조회한다.
+            Map<OauthProvider, Map<String, MemberImportRequest>> requestsByProvider = new EnumMap<>(OauthProvider.class);
+            for (MemberImportRequest request : chunk) {
+                requestsByProvider.computeIfAbsent(request.getProvider(), provider -> new LinkedHashMap<>())
+                        .putIfAbsent(request.getOauthId(), request);
+            }
+
+            List<Member> members = new ArrayList<>(chunk.size());
+            for (Map.Entry<OauthProvider, Map<String, MemberImportRequest>> entry : requestsByProvider.entrySet()) {
+                Map<String, MemberImportRequest> requests = entry.getValue();
+                Set<String> existing = new HashSet<>(memberRepository.findExistingOauthIds(entry.getKey(), requests.keySet()));
+                for (MemberImportRequest request : requests.values()) {
+                    if (existing.contains(request.getOauthId())) {
+                        continue;
+                    }
+                    members.add(Member.builder()
+                            .nickname(request.getNickname())
+                            .profileImage(request.getProfileImage())
+                            .oauthInfo(new OauthInfo(request.getOauthId(), request.getProvider()))
+                            .build());
+                }
+            }
+
+            memberRepository.saveAll(members);
+            // 배치로 INSERT 를 보내고, 저장한 엔티티를 영속성 컨텍스트에서 내보낸다.
+            entityManager.flush();
+            entityManager.clear();
+            return (long) members.size();
+        });
+        return imported == null ? 0 : imported;
+    }
+
+    private MemberImportRequest parse(String line) {
+        try {
+            MemberImportRequest request = objectMapper.readValue(line, MemberImportRequest.class);
+            if (request.getOauthId() == null || request.getOauthId().trim().isEmpty() || request.getProvider() == null) {
+                return null;
+            }
+            return request;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
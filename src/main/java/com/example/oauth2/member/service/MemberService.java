@@ -1,11 +1,16 @@
 package com.example.oauth2.member.service;
 
 import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.MemberSnapshot;
+import com.example.oauth2.member.domain.OauthInfo;
 import com.example.oauth2.member.dto.MemberRequest;
 import com.example.oauth2.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @RequiredArgsConstructor
 @Service
@@ -14,15 +19,108 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
 
+    private final MemberCache memberCache;
+
+    private final MemberCacheInvalidator memberCacheInvalidator;
+
+    private final OauthMemberIdCache oauthMemberIdCache;
+
+    private final TransactionTemplate transactionTemplate;
+
     public Member findById(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected member"));
     }
 
+    /**
+     * 회원 스냅샷을 캐시에서 조회하고, 없으면 DB 에서 읽어 캐시에 보관하는 메서드이다.
+     * @param memberId 회원 ID
+     * @return 회원 스냅샷
+     */
+    public MemberSnapshot getSnapshot(Long memberId) {
+        return memberCache.get(memberId, id -> MemberSnapshot.of(findById(id)));
+    }
+
+    /**
+     * 적어도 주어진 버전 이후의 회원 스냅샷을 조회하는 메서드이다.
+     * 다른 노드에서 수정되어 캐시의 스냅샷이 더 오래되었으면 지우고 DB 에서 다시 읽는다.
+     * @param memberId 회원 ID
+     * @param minVersion DB 에서 읽은 버전
+     * @return 회원 스냅샷
+     */
+    public MemberSnapshot getSnapshot(Long memberId, long minVersion) {
+        MemberSnapshot snapshot = getSnapshot(memberId);
+        if (snapshot.getVersion() >= minVersion) {
+            return snapshot;
+        }
+        memberCache.invalidate(memberId);
+        return getSnapshot(memberId);
+    }
+
+    /**
+     * 회원 정보의 버전을 조회하는 메서드이다. 엔티티를 읽지 않고 버전 컬럼만 조회한다.
+     * 회원 캐시는 노드마다 따로 있어서 다른 노드의 수정을 모르므로, ETag 비교에는 캐시를 쓰지 않는다.
+     * @param memberId 회원 ID
+     * @return 회원 정보의 버전
+     */
+    public long getVersion(Long memberId) {
+        return memberRepository.findVersionById(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("Unexpected member"));
+    }
+
+    /**
+     * OAuth 회원을 조회해서 액세스 토큰을 갱신하거나, 없으면 새로 저장하는 메서드이다.
+     * 회원 ID 가 캐시에 있으면 회원을 조회하지 않고 기본 키로 액세스 토큰만 갱신한다.
+     * 다른 노드가 같은 회원을 먼저 저장해서 유니크 제약(uk_member_oauth_info)에 걸리면,
+     * 새 트랜잭션에서 다시 조회해서 갱신한다.
+     * @return 저장된 회원의 ID
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Long registerOauthMember(OauthInfo oauthInfo, String nickname, String profileImage, String accessToken) {
+        Long cachedMemberId = oauthMemberIdCache.get(oauthInfo);
+        if (cachedMemberId != null) {
+            // 액세스 토큰은 회원 스냅샷에 없고 버전도 바꾸지 않으므로 회원 캐시는 그대로 둔다.
+            Integer updated = transactionTemplate.execute(status -> memberRepository.updateAccessToken(cachedMemberId, accessToken));
+            if (updated != null && updated > 0) {
+                return cachedMemberId;
+            }
+            // 그 사이 회원이 삭제되었다면 조회부터 다시 한다.
+            oauthMemberIdCache.invalidate(oauthInfo);
+        }
+
+        Long memberId;
+        try {
+            memberId = transactionTemplate.execute(status -> upsertOauthMember(oauthInfo, nickname, profileImage, accessToken));
+        } catch (DataIntegrityViolationException e) {
+            memberId = transactionTemplate.execute(status -> upsertOauthMember(oauthInfo, nickname, profileImage, accessToken));
+        }
+        // 커밋된 뒤에만 캐시에 넣어서 롤백된 회원 ID 가 남지 않게 한다.
+        oauthMemberIdCache.put(oauthInfo, memberId);
+        return memberId;
+    }
+
+    private Long upsertOauthMember(OauthInfo oauthInfo, String nickname, String profileImage, String accessToken) {
+        return memberRepository.findByOauthInfo(oauthInfo)
+                .map(entity -> entity.update(accessToken))
+                // 유니크 제약 위반이 트랜잭션 안에서 드러나도록 바로 INSERT 한다.
+                .orElseGet(() -> memberRepository.saveAndFlush(Member.builder()
+                        .accessToken(accessToken)
+                        .nickname(nickname)
+                        .profileImage(profileImage)
+                        .oauthInfo(oauthInfo)
+                        .build()))
+                .getId();
+    }
+
+    /**
+     * 회원의 프로필을 수정하는 메서드이다. 버전은 UPDATE 문 안에서 원자적으로 올린다.
+     */
     @Transactional
-    public void update(MemberRequest request, Member member) {
-        System.out.println("request.getNickname() = " + request.getNickname());
-        System.out.println("request.getProfileImage() = " + request.getProfileImage());
-        member.update(request.getNickname(), request.getProfileImage());
+    public void update(Long memberId, MemberRequest request) {
+        int updated = memberRepository.updateProfile(memberId, request.getNickname(), request.getProfileImage());
+        if (updated == 0) {
+            throw new IllegalArgumentException("Unexpected member");
+        }
+        memberCacheInvalidator.invalidate(memberId);
     }
 }
@@ -0,0 +1,115 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.OauthInfo;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OAuth 식별 정보(provider, oauthId)로 회원 ID 를 찾는 캐시이다.
+ * 한 번 정해진 회원 ID 는 회원이 삭제되기 전까지 바뀌지 않으므로 TTL 없이 최대 크기로만 항목을 내보낸다.
+ */
+@Component
+public class OauthMemberIdCache {
+
+    private final Map<OauthInfo, Long> memberIds = new ConcurrentHashMap<>();
+
+    private final int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public OauthMemberIdCache(@Value("${member.oauth-id-cache.max-size:100000}") int maxSize,
+                              MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+
+        resultCounter("hit", hits, meterRegistry);
+        resultCounter("miss", misses, meterRegistry);
+        FunctionCounter.builder("member.oauth_id_cache.evictions", evictions, LongAdder::sum)
+                .description("OAuth identity to member id entries evicted because the cache was full")
+                .register(meterRegistry);
+        Gauge.builder("member.oauth_id_cache.size", memberIds, Map::size)
+                .description("OAuth identity to member id entries held in the cache")
+                .register(meterRegistry);
+    }
+
+    private static void resultCounter(String result, LongAdder adder, MeterRegistry meterRegistry) {
+        FunctionCounter.builder("member.oauth_id_cache", adder, LongAdder::sum)
+                .description("OAuth identity to member id cache lookups, by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * OAuth 식별 정보에 해당하는 회원 ID 를 조회하는 메서드이다.
+     * @return 회원 ID, 캐시에 없으면 null
+     */
+    public Long get(OauthInfo oauthInfo) {
+        Long memberId = memberIds.get(oauthInfo);
+        if (memberId == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return memberId;
+    }
+
+    /**
+     * 커밋된 회원의 OAuth 식별 정보와 회원 ID 를 보관하는 메서드이다.
+     */
+    public void put(OauthInfo oauthInfo, Long memberId) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (memberIds.size() >= maxSize) {
+            evict();
+        }
+        memberIds.put(oauthInfo, memberId);
+    }
+
+    /**
+     * 회원이 삭제되었거나 보관한 회원 ID 가 더 이상 유효하지 않을 때 지우는 메서드이다.
+     */
+    public void invalidate(OauthInfo oauthInfo) {
+        memberIds.remove(oauthInfo);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        return memberIds.size();
+    }
+
+    /**
+     * 용량의 1/16 만큼 임의의 항목을 지운다.
+     */
+    private void evict() {
+        int target = maxSize - Math.max(1, maxSize / 16);
+        Iterator<OauthInfo> iterator = memberIds.keySet().iterator();
+        while (memberIds.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+}
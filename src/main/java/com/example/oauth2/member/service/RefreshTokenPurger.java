@@ -0,0 +1,151 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 만료된 리프레시 토큰 행을 주기적으로 지운다.
+ * expires_at 인덱스로 한 번에 batchSize 개씩만 골라서 짧은 트랜잭션으로 지우고,
+ * 배치 사이에 잠시 쉬어서 다른 트랜잭션이 오래 기다리지 않게 한다.
+ * 행을 지우는 작업이므로 jwt.refresh-token.purge.enabled=true 로 켠 노드에서만 돈다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.refresh-token.purge.enabled", havingValue = "true")
+public class RefreshTokenPurger {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    private final int batchSize;
+
+    private final long pauseMs;
+
+    private final int maxBatchesPerRun;
+
+    private final long legacyTtlMs;
+
+    private final Counter deletedCounter;
+
+    private final Timer batchTimer;
+
+    private final AtomicLong lastRunDeleted = new AtomicLong();
+
+    private final AtomicLong lastCompletedAt = new AtomicLong();
+
+    // 만료 시각이 없는 예전 행을 모두 채웠는지
+    private boolean legacyRowsFilled;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository,
+                              RefreshTokenStore refreshTokenStore,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.refresh-token.purge.batch-size:1000}") int batchSize,
+                              @Value("${jwt.refresh-token.purge.pause-ms:50}") long pauseMs,
+                              @Value("${jwt.refresh-token.purge.max-batches-per-run:1000}") int maxBatchesPerRun,
+                              // 리프레시 토큰 유효 기간(14일), 만료 시각이 없는 예전 행의 상한으로 쓴다.
+                              @Value("${jwt.refresh-token.purge.legacy-ttl-ms:1209600000}") long legacyTtlMs) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenStore = refreshTokenStore;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.legacyTtlMs = legacyTtlMs;
+
+        this.deletedCounter = Counter.builder("refresh_token.purge.deleted")
+                .description("Expired refresh token rows deleted")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("refresh_token.purge.batch")
+                .description("Time to select and delete one batch of expired refresh tokens")
+                .register(meterRegistry);
+        Gauge.builder("refresh_token.purge.last_run.deleted", lastRunDeleted, AtomicLong::get)
+                .description("Rows deleted by the last purge run")
+                .register(meterRegistry);
+        Gauge.builder("refresh_token.purge.last_run.completed", lastCompletedAt, value -> value.get() / 1000.0)
+                .description("Epoch seconds when the last purge run completed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 만료된 리프레시 토큰을 한 번 정리하는 메서드이다.
+     * @return 지운 행 수
+     */
+    public synchronized long purge() throws InterruptedException {
+        long now = System.currentTimeMillis();
+        if (!legacyRowsFilled) {
+            fillLegacyRows(now + legacyTtlMs);
+        }
+
+        long deleted = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            long startedAt = System.nanoTime();
+            List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            int deletedInBatch = refreshTokenRepository.deleteExpiredByIds(ids, now);
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            deletedCounter.increment(deletedInBatch);
+            deleted += deletedInBatch;
+
+            if (ids.size() < batchSize) {
+                break;
+            }
+            Thread.sleep(pauseMs);
+        }
+        refreshTokenStore.evictExpired(now);
+
+        lastRunDeleted.set(deleted);
+        lastCompletedAt.set(System.currentTimeMillis());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh tokens", deleted);
+        }
+        return deleted;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.purge.interval-ms:600000}",
+            initialDelayString = "${jwt.refresh-token.purge.interval-ms:600000}")
+    public void purgeSafely() {
+        try {
+            purge();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("Failed to purge expired refresh tokens", e);
+        }
+    }
+
+    /**
+     * expires_at 컬럼을 추가하기 전에 저장된 행에 만료 시각의 상한을 채운다.
+     * 그 행들은 늦어도 지금부터 legacyTtlMs 안에 만료되므로, 그때 지워진다.
+     */
+    private void fillLegacyRows(long expiresAt) throws InterruptedException {
+        long filled = 0;
+        while (true) {
+            List<Long> ids = refreshTokenRepository.findIdsWithoutExpiresAt(PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            filled += refreshTokenRepository.fillMissingExpiresAt(ids, expiresAt);
+            Thread.sleep(pauseMs);
+        }
+        if (filled > 0) {
+            log.info("Filled expires_at for {} refresh tokens saved before the column existed", filled);
+        }
+        legacyRowsFilled = true;
+    }
+}
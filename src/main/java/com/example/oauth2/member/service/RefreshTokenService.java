@@ -1,17 +1,30 @@
 package com.example.oauth2.member.service;
 
-import com.example.oauth2.member.domain.RefreshToken;
-import com.example.oauth2.member.repository.RefreshTokenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
 @Service
 public class RefreshTokenService {
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
 
-    public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
+    public Long findMemberIdByRefreshToken(String refreshToken) {
+        return refreshTokenStore.findMemberId(refreshToken)
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
     }
+
+    /**
+     * 회원의 리프레시 토큰을 새 값으로 바꾸거나, 없으면 새로 저장하는 메서드이다.
+     * @param expiresAt 토큰 만료 시각(epoch millis)
+     */
+    public void saveRefreshToken(Long memberId, String newRefreshToken, long expiresAt) {
+        refreshTokenStore.save(memberId, newRefreshToken, expiresAt);
+    }
+
+    /**
+     * 회원의 리프레시 토큰을 지우는 메서드이다.
+     */
+    public void deleteRefreshToken(Long memberId) {
+        refreshTokenStore.delete(memberId);
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.oauth2.member.service;
+
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 저장소이다. jwt.refresh-token.store 로 구현을 고른다.
+ * <ul>
+ *     <li>jpa (기본값) : 매번 DB 에 바로 읽고 쓴다.</li>
+ *     <li>memory : 메모리에서 읽고 쓰고, DB 에는 모아서 비동기로 기록한다.
+ *     다른 노드의 변경을 알 수 없으므로 노드가 하나일 때만 사용한다.</li>
+ * </ul>
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * 회원의 리프레시 토큰을 새 값으로 바꾸거나, 없으면 새로 저장한다.
+     * @param expiresAt 토큰 만료 시각(epoch millis)
+     */
+    void save(Long memberId, String refreshToken, long expiresAt);
+
+    /**
+     * 리프레시 토큰의 주인인 회원 ID 를 찾는다. DB 에서 찾을 때는 회원이 있는지도 함께 확인한다.
+     */
+    Optional<Long> findMemberId(String refreshToken);
+
+    /**
+     * 회원의 리프레시 토큰을 지운다. 지운 뒤에는 그 토큰으로 새 액세스 토큰을 받을 수 없다.
+     */
+    void delete(Long memberId);
+
+    /**
+     * DB 밖에 보관하고 있는 만료된 토큰을 버린다. DB 의 행은 RefreshTokenPurger 가 지운다.
+     */
+    default void evictExpired(long now) {
+    }
+}
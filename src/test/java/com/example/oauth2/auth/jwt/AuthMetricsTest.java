@@ -0,0 +1,68 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.service.MemberService;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * monitoring 프로파일에서 인증 경로의 지표가 Prometheus 형식으로 나가는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@ActiveProfiles({"test", "monitoring"})
+class AuthMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    void exposesFilterOutcomesRejectionsAndParseHistograms() throws Exception {
+        Long memberId = memberService.registerOauthMember(new OauthInfo("metrics-1", OauthProvider.KAKAO), "metrics", null, "token");
+
+        mockMvc.perform(get("/api/member"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/member")
+                        .header("Authorization", "Bearer " + tokenProvider.generateToken(memberId, Duration.ofHours(1))))
+                .andExpect(status().isOk());
+
+        String scrape = prometheusMeterRegistry.scrape();
+        assertThat(sample(scrape, "auth_filter_requests_total", "outcome=\"missing\"")).isGreaterThanOrEqualTo(1);
+        assertThat(sample(scrape, "auth_filter_requests_total", "outcome=\"ok\"")).isGreaterThanOrEqualTo(1);
+        assertThat(sample(scrape, "auth_rejections_total", "reason=\"unauthenticated\"")).isGreaterThanOrEqualTo(1);
+        // 백분위는 서버에서 계산하도록 히스토그램 버킷만 내보낸다.
+        assertThat(scrape).contains("jwt_parse_seconds_bucket{");
+        assertThat(scrape).doesNotContain("jwt_parse_seconds{");
+    }
+
+    private static double sample(String scrape, String name, String label) {
+        return Arrays.stream(scrape.split("\n"))
+                .filter(line -> line.startsWith(name + "{") && line.contains(label))
+                .mapToDouble(line -> Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1)))
+                .sum();
+    }
+}
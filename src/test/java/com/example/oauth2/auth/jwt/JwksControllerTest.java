@@ -0,0 +1,47 @@
+package com.example.oauth2.auth.jwt;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwksControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtKeySet jwtKeySet;
+
+    @Test
+    void servesJwksWithEtagWithoutAuthentication() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, jwtKeySet.getJwksEtag()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"))
+                .andExpect(content().json(jwtKeySet.getJwksJson()));
+    }
+
+    @Test
+    void answersMatchingEtagWithNotModified() throws Exception {
+        mockMvc.perform(get("/.well-known/jwks.json")
+                        .header(HttpHeaders.IF_NONE_MATCH, jwtKeySet.getJwksEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/.well-known/jwks.json")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.auth.revocation.TokenRevocationService;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TokenAuthenticationFilterTest {
+
+    private static final String SECRET = TextCodec.BASE64.encode("0123456789abcdef0123456789abcdef");
+
+    private TokenProvider tokenProvider;
+
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), meterRegistry);
+        TokenAuthenticator tokenAuthenticator = new TokenAuthenticator(tokenProvider,
+                new VerifiedTokenCache(16, meterRegistry), mock(TokenRevocationService.class), meterRegistry);
+        filter = new TokenAuthenticationFilter(tokenAuthenticator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenAuthenticatesWithMemberPrincipal() throws Exception {
+        String token = tokenProvider.generateToken(42L, Duration.ofHours(1));
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request("Bearer " + token), new MockHttpServletResponse(), filterChain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication).isInstanceOf(JwtAuthenticationToken.class);
+        assertThat(authentication.getPrincipal()).isEqualTo(new MemberPrincipal(42L));
+        assertThat(filterChain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void invalidOrMissingTokenContinuesWithoutAuthentication() throws Exception {
+        String expired = tokenProvider.generateToken(42L, Duration.ofHours(-1));
+
+        for (String authorization : new String[]{null, "Bearer not-a-token", "Bearer " + expired, "Basic abc"}) {
+            MockFilterChain filterChain = new MockFilterChain();
+            filter.doFilter(request(authorization), new MockHttpServletResponse(), filterChain);
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            assertThat(filterChain.getRequest()).isNotNull();
+        }
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/member");
+        if (authorization != null) {
+            request.addHeader("Authorization", authorization);
+        }
+        return request;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.member.domain.Member;
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.impl.TextCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenProviderTest {
+
+    private static final String SECRET = TextCodec.BASE64.encode("0123456789abcdef0123456789abcdef");
+
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        tokenProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void parsesIssuedTokenOnFastPath() {
+        String token = tokenProvider.generateToken(Member.builder().id(42L).build(), Duration.ofHours(1));
+
+        assertThat(token).startsWith(FastJwsVerifier.HEADER_SEGMENT + ".");
+        ParsedToken parsedToken = tokenProvider.parse(token);
+        assertThat(parsedToken.getStatus()).isEqualTo(TokenStatus.VALID);
+        assertThat(parsedToken.getMemberId()).isEqualTo(42L);
+        assertThat(parsedToken.getTokenId()).hasSize(22);
+    }
+
+    @Test
+    void decodesSecretIntoOneSigningKeyAtStartup() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        JwtKeySet jwtKeySet = new JwtKeySet(jwtProperties);
+
+        assertThat(jwtKeySet.getSigningKey()).isInstanceOf(SecretKey.class);
+        assertThat(jwtKeySet.getSigningKey().getAlgorithm()).isEqualTo("HmacSHA256");
+        assertThat(jwtKeySet.getSigningKey().getEncoded()).isEqualTo(TextCodec.BASE64.decode(SECRET));
+        assertThat(jwtKeySet.getSigningKey()).isSameAs(jwtKeySet.getSigningKey());
+    }
+
+    @Test
+    void signsAndVerifiesConcurrentlyWithSharedKey() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long memberId = t;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    // 재사용하는 Mac 을 스레드끼리 나눠 쓰면 서명이 섞여서 검증에 실패한다.
+                    for (int i = 0; i < 2000; i++) {
+                        String token = tokenProvider.generateToken(memberId, Duration.ofHours(1));
+                        ParsedToken parsedToken = tokenProvider.parse(token);
+                        assertThat(parsedToken.getStatus()).isEqualTo(TokenStatus.VALID);
+                        assertThat(parsedToken.getMemberId()).isEqualTo(memberId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsTamperedSignature() {
+        String token = tokenProvider.generateToken(Member.builder().id(42L).build(), Duration.ofHours(1));
+        char last = token.charAt(token.length() - 2);
+        String tampered = token.substring(0, token.length() - 2) + (last == 'A' ? 'B' : 'A') + token.charAt(token.length() - 1);
+
+        assertThat(tokenProvider.parse(tampered).getStatus()).isEqualTo(TokenStatus.INVALID_SIGNATURE);
+    }
+
+    @Test
+    void rejectsExpiredToken() {
+        String token = tokenProvider.generateToken(Member.builder().id(42L).build(), Duration.ofHours(-1));
+
+        assertThat(tokenProvider.parse(token).getStatus()).isEqualTo(TokenStatus.EXPIRED);
+    }
+
+    @Test
+    void fastSignerMatchesJjwtByteForByte() {
+        FastJwsSigner signer = new FastJwsSigner(new SecretKeySpec(TextCodec.BASE64.decode(SECRET), "HmacSHA256"));
+        long[] memberIds = {0L, 1L, 42L, 1_000_000_007L, Long.MAX_VALUE};
+
+        for (long memberId : memberIds) {
+            long issuedAt = 1_700_000_000_123L + memberId % 1000;
+            long expiry = issuedAt + Duration.ofDays(14).toMillis();
+            byte[] tokenId = new byte[FastJwsSigner.TOKEN_ID_LENGTH];
+            for (int i = 0; i < tokenId.length; i++) {
+                tokenId[i] = (byte) (memberId * 31 + i * 17);
+            }
+
+            String expected = Jwts.builder()
+                    .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                    .setIssuedAt(new Date(issuedAt))
+                    .setExpiration(new Date(expiry))
+                    .setSubject(String.valueOf(memberId))
+                    .claim("id", memberId)
+                    .setId(Base64.getUrlEncoder().withoutPadding().encodeToString(tokenId))
+                    .signWith(SignatureAlgorithm.HS256, SECRET)
+                    .compact();
+
+            assertThat(signer.sign(issuedAt / 1000, expiry / 1000, memberId, tokenId)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void fallsBackToJjwtForUnknownClaims() {
+        String token = Jwts.builder()
+                .setHeaderParam(Header.TYPE, Header.JWT_TYPE)
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .setSubject("7")
+                .claim("id", 7L)
+                .claim("scope", "member")
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+
+        ParsedToken parsedToken = tokenProvider.parse(token);
+        assertThat(parsedToken.getStatus()).isEqualTo(TokenStatus.VALID);
+        assertThat(parsedToken.getMemberId()).isEqualTo(7L);
+    }
+
+    @Test
+    void reportsMissingAndMalformedTokens() {
+        assertThat(tokenProvider.parse(null).getStatus()).isEqualTo(TokenStatus.MISSING);
+        assertThat(tokenProvider.parse("not-a-token").getStatus()).isEqualTo(TokenStatus.MALFORMED);
+    }
+
+    @Test
+    void verifiesAsymmetricTokensByKid() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setAlgorithm("ES256");
+        TokenProvider es256Provider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+        TokenProvider otherProvider = new TokenProvider(new JwtKeySet(jwtProperties), new SimpleMeterRegistry());
+
+        String token = es256Provider.generateToken(Member.builder().id(42L).build(), Duration.ofHours(1));
+
+        assertThat(es256Provider.parse(token).getMemberId()).isEqualTo(42L);
+        assertThat(otherProvider.parse(token).getStatus()).isEqualTo(TokenStatus.INVALID_SIGNATURE);
+        assertThat(tokenProvider.parse(token).isValid()).isFalse();
+    }
+}
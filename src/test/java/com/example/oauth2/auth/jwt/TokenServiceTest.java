@@ -0,0 +1,92 @@
+package com.example.oauth2.auth.jwt;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.auth.revocation.TokenRevocationService;
+import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.example.oauth2.member.service.RefreshTokenService;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class TokenServiceTest {
+
+    // RefreshTokenRepository.findMemberIdByTokenHash 의 쿼리
+    private static final String MEMBER_ID_BY_TOKEN_HASH =
+            "select r.memberId from RefreshToken r join Member m on m.id = r.memberId where r.tokenHash = :tokenHash";
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void refreshResolvesMemberWithOneProjectionQuery() {
+        Member member = memberRepository.save(Member.builder()
+                .nickname("refresh")
+                .oauthInfo(new OauthInfo("refresh-1", OauthProvider.KAKAO))
+                .build());
+        Duration refreshTokenDuration = Duration.ofDays(14);
+        String refreshToken = tokenProvider.generateToken(member.getId(), refreshTokenDuration);
+        refreshTokenService.saveRefreshToken(member.getId(), refreshToken,
+                System.currentTimeMillis() + refreshTokenDuration.toMillis());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long memberLoads = statistics.getEntityStatistics(Member.class.getName()).getLoadCount();
+        long projections = statistics.getQueryStatistics(MEMBER_ID_BY_TOKEN_HASH).getExecutionCount();
+
+        String accessToken = tokenService.createNewAccessToken(refreshToken);
+
+        assertThat(tokenProvider.parse(accessToken).getMemberId()).isEqualTo(member.getId());
+        // 회원 엔티티는 읽지 않고 프로젝션 쿼리 한 번으로 확인한다.
+        assertThat(statistics.getEntityStatistics(Member.class.getName()).getLoadCount()).isEqualTo(memberLoads);
+        assertThat(statistics.getQueryStatistics(MEMBER_ID_BY_TOKEN_HASH).getExecutionCount()).isEqualTo(projections + 1);
+    }
+
+    @Test
+    void refreshIsRejectedAfterLogout() {
+        Member member = memberRepository.save(Member.builder()
+                .nickname("logout")
+                .oauthInfo(new OauthInfo("logout-1", OauthProvider.KAKAO))
+                .build());
+        Duration refreshTokenDuration = Duration.ofDays(14);
+        String refreshToken = tokenProvider.generateToken(member.getId(), refreshTokenDuration);
+        refreshTokenService.saveRefreshToken(member.getId(), refreshToken,
+                System.currentTimeMillis() + refreshTokenDuration.toMillis());
+        String accessToken = tokenProvider.generateToken(member.getId(), Duration.ofHours(2));
+
+        assertThat(tokenService.createNewAccessToken(refreshToken)).isNotBlank();
+
+        JwtAuthenticationToken authentication = tokenProvider.getAuthentication(tokenProvider.parse(accessToken), accessToken);
+        tokenService.logout(authentication);
+
+        assertThat(tokenRevocationService.isRevoked(authentication.getTokenId())).isTrue();
+        assertThatThrownBy(() -> tokenService.createNewAccessToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
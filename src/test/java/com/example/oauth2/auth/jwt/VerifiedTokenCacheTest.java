@@ -0,0 +1,48 @@
+package com.example.oauth2.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void exposesHitsAndMissesAsMeters() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16, meterRegistry);
+        cache.put("token", authentication(1, TimeUnit.HOURS.toMillis(1)));
+
+        cache.get("token");
+        cache.get("token");
+        cache.get("unknown");
+
+        assertThat(meterRegistry.get("auth.token.cache").tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.token.cache").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("auth.token.cache.size").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsTokensClosestToExpiryWhenFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(16, meterRegistry);
+        // 먼저 넣은 토큰일수록 늦게 만료된다.
+        for (int i = 0; i < 16; i++) {
+            cache.put("token-" + i, authentication(i, TimeUnit.HOURS.toMillis(32 - i)));
+        }
+
+        cache.put("token-16", authentication(16, TimeUnit.HOURS.toMillis(32)));
+
+        assertThat(cache.get("token-15")).isNull();
+        assertThat(cache.get("token-0")).isNotNull();
+        assertThat(cache.get("token-16")).isNotNull();
+    }
+
+    private static JwtAuthenticationToken authentication(long memberId, long ttlMs) {
+        ParsedToken parsedToken = ParsedToken.valid(memberId, System.currentTimeMillis() + ttlMs, "jti-" + memberId);
+        return new JwtAuthenticationToken(parsedToken, "token-" + memberId, Collections.emptyList());
+    }
+}
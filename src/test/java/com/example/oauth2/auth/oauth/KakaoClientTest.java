@@ -0,0 +1,87 @@
+package com.example.oauth2.auth.oauth;
+
+import com.example.oauth2.global.config.KakaoClientConfig;
+import com.example.oauth2.load.KakaoStubServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 카카오 스텁을 상대로 KakaoClientConfig 의 RestTemplate 을 그대로 사용한다.
+ */
+class KakaoClientTest {
+
+    private static final int READ_TIMEOUT_MS = 200;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final KakaoClientConfig config = new KakaoClientConfig();
+
+    private final CloseableHttpClient httpClient = config.kakaoHttpClient(4, 30_000);
+
+    private KakaoStubServer kakao;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (kakao != null) {
+            kakao.close();
+        }
+        httpClient.close();
+    }
+
+    @Test
+    void readsTypedResponses() throws IOException {
+        kakao = new KakaoStubServer(0, 0);
+        KakaoClient kakaoClient = kakaoClient(kakao);
+
+        KakaoTokenResponse token = kakaoClient.getAccessToken("1234");
+        KakaoUserInfoResponse userInfo = kakaoClient.getUserInfo(token.getAccessToken());
+
+        assertThat(userInfo.getId()).isEqualTo(1234L);
+        assertThat(userInfo.getKakaoAccount().getProfile().getNickname()).isEqualTo("nickname1234");
+        assertThat(userInfo.getKakaoAccount().getProfile().getProfileImageUrl()).isEqualTo("https://example.com/1234.png");
+        assertThat(meterRegistry.get("kakao.client.requests").tag("call", "token").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void slowResponseFailsAfterReadTimeout() throws IOException {
+        kakao = new KakaoStubServer(READ_TIMEOUT_MS * 10L, 0);
+        KakaoClient kakaoClient = kakaoClient(kakao);
+
+        assertThatThrownBy(() -> kakaoClient.getAccessToken("1234"))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasRootCauseInstanceOf(SocketTimeoutException.class);
+        assertThat(meterRegistry.get("kakao.client.requests").tag("call", "token").tag("outcome", "error").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void mapsErrorStatusesToHttpExceptions() throws IOException {
+        kakao = new KakaoStubServer(0, 0);
+        // 숫자가 아닌 인가 코드는 스텁이 400 으로 거절한다.
+        assertThatThrownBy(() -> kakaoClient(kakao).getAccessToken("invalid"))
+                .isInstanceOf(HttpClientErrorException.BadRequest.class);
+        kakao.close();
+
+        kakao = new KakaoStubServer(0, 1.0);
+        assertThatThrownBy(() -> kakaoClient(kakao).getAccessToken("1234"))
+                .isInstanceOf(HttpServerErrorException.InternalServerError.class);
+    }
+
+    private KakaoClient kakaoClient(KakaoStubServer kakao) {
+        return new KakaoClient(config.kakaoRestTemplate(new RestTemplateBuilder(), httpClient, 1000, READ_TIMEOUT_MS, 1000),
+                meterRegistry, "test-client-id", "http://localhost/login/callback", kakao.tokenUri(), kakao.userInfoUri());
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.oauth2.auth.oauth;
+
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.client.HttpClientErrorException;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 카카오 응답이 느려도 로그인이 DB 커넥션 풀을 고갈시키지 않는지 확인한다.
+ * 풀 크기는 2, 커넥션 대기 시간은 250ms 이고 카카오 호출은 각각 300ms 걸린다.
+ * 외부 호출 동안 커넥션을 붙잡고 있다면 동시에 진행되는 로그인 중 일부는 커넥션을 얻지 못해 실패한다.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=250"
+})
+@ActiveProfiles("test")
+class OauthServiceTransactionTest {
+
+    private static final long KAKAO_LATENCY_MS = 300;
+
+    private static final int CONCURRENT_LOGINS = 8;
+
+    @MockBean
+    private KakaoClient kakaoClient;
+
+    @Autowired
+    private OauthService oauthService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void slowKakaoCallsDoNotHoldDatabaseConnections() throws Exception {
+        given(kakaoClient.getAccessToken(anyString())).willAnswer(invocation -> {
+            Thread.sleep(KAKAO_LATENCY_MS);
+            return new KakaoTokenResponse("kakao-" + invocation.getArgument(0));
+        });
+        given(kakaoClient.getUserInfo(anyString())).willAnswer(invocation -> {
+            Thread.sleep(KAKAO_LATENCY_MS);
+            String code = ((String) invocation.getArgument(0)).substring("kakao-".length());
+            return new KakaoUserInfoResponse(Long.valueOf(code), new KakaoUserInfoResponse.KakaoAccount(
+                    new KakaoUserInfoResponse.Profile("nickname" + code, "https://example.com/" + code + ".png")));
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_LOGINS);
+        try {
+            List<Future<MockHttpServletResponse>> logins = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_LOGINS; i++) {
+                String code = String.valueOf(1000 + i);
+                logins.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    oauthService.kakaoLogin(code, new MockHttpServletRequest(), response);
+                    return response;
+                }));
+            }
+
+            // 로그인이 카카오 응답을 기다리는 동안에도 다른 요청은 바로 커넥션을 얻을 수 있어야 한다.
+            Thread.sleep(KAKAO_LATENCY_MS / 2);
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(connection.isValid(1)).isTrue();
+            }
+
+            for (Future<MockHttpServletResponse> login : logins) {
+                MockHttpServletResponse response = login.get(10, TimeUnit.SECONDS);
+                assertThat(response.getHeader("Authorization")).isNotBlank();
+                assertThat(response.getCookie("refresh_token")).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(((HikariDataSource) dataSource).getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+    }
+
+    @Test
+    void replayedCodeDoesNotShareInFlightLogin() throws Exception {
+        String code = "2000";
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger exchanges = new AtomicInteger();
+        // 카카오는 인가 코드를 한 번만 받아 주므로, 두 번째 교환은 거부한다.
+        given(kakaoClient.getAccessToken(code)).willAnswer(invocation -> {
+            if (exchanges.getAndIncrement() > 0) {
+                throw HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "invalid_grant", null, null, null);
+            }
+            release.await();
+            return new KakaoTokenResponse("kakao-" + code);
+        });
+        given(kakaoClient.getUserInfo("kakao-" + code)).willReturn(new KakaoUserInfoResponse(2000L,
+                new KakaoUserInfoResponse.KakaoAccount(new KakaoUserInfoResponse.Profile("nickname", null))));
+
+        FutureTask<MockHttpServletResponse> login = new FutureTask<>(() -> {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            oauthService.kakaoLogin(code, new MockHttpServletRequest(), response);
+            return response;
+        });
+        Thread thread = new Thread(login, "login");
+        thread.start();
+        try {
+            awaitAllWaiting(Collections.singletonList(thread));
+
+            // 정상 로그인이 진행 중일 때 같은 코드를 다시 보내도 그 결과를 나눠 받지 못한다.
+            assertThatThrownBy(() -> oauthService.kakaoLogin(code, new MockHttpServletRequest(), new MockHttpServletResponse()))
+                    .isInstanceOf(HttpClientErrorException.class);
+        } finally {
+            release.countDown();
+        }
+
+        assertThat(login.get(10, TimeUnit.SECONDS).getHeader("Authorization")).isNotBlank();
+        verify(kakaoClient, times(2)).getAccessToken(code);
+    }
+
+    @Test
+    void concurrentLoginsWithDifferentCodesForSameKakaoAccountCreateOneMember() throws Exception {
+        List<String> codes = Arrays.asList("3000", "3001");
+        // 두 요청이 카카오 토큰을 함께 받은 뒤에 동시에 회원을 저장하러 간다.
+        CyclicBarrier barrier = new CyclicBarrier(codes.size());
+        given(kakaoClient.getAccessToken(anyString())).willAnswer(invocation -> {
+            barrier.await(10, TimeUnit.SECONDS);
+            return new KakaoTokenResponse("kakao-" + invocation.getArgument(0));
+        });
+        given(kakaoClient.getUserInfo(anyString())).willReturn(new KakaoUserInfoResponse(3000L,
+                new KakaoUserInfoResponse.KakaoAccount(new KakaoUserInfoResponse.Profile("nickname", null))));
+
+        ExecutorService executor = Executors.newFixedThreadPool(codes.size());
+        try {
+            List<Future<MockHttpServletResponse>> logins = new ArrayList<>();
+            for (String code : codes) {
+                logins.add(executor.submit(() -> {
+                    MockHttpServletResponse response = new MockHttpServletResponse();
+                    oauthService.kakaoLogin(code, new MockHttpServletRequest(), response);
+                    return response;
+                }));
+            }
+            for (Future<MockHttpServletResponse> login : logins) {
+                assertThat(login.get(10, TimeUnit.SECONDS).getHeader("Authorization")).isNotBlank();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 같은 노드에서는 회원 저장이 하나로 합쳐질 수 있고, 합쳐지지 않아도 유니크 제약과 재시도로 한 행만 남아야 한다.
+        OauthInfo oauthInfo = new OauthInfo("3000", OauthProvider.KAKAO);
+        assertThat(memberRepository.findAll())
+                .filteredOn(member -> oauthInfo.equals(member.getOauthInfo()))
+                .hasSize(1);
+    }
+
+    private static void awaitAllWaiting(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!threads.stream().allMatch(thread -> thread.getState() == Thread.State.WAITING)) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Logins did not block on the in-flight Kakao call");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.oauth2.auth.revocation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY id 가 커밋 순서와 다를 때도 폐기 이벤트를 놓치지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class DbPollingRevocationChannelTest {
+
+    @Autowired
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void deliversRowWithLowerIdThatCommitsAfterHigherId() throws Exception {
+        // 주기적인 조회는 테스트 중에 돌지 않도록 하고 poll() 을 직접 부른다.
+        DbPollingRevocationChannel channel = new DbPollingRevocationChannel(revokedTokenRepository, TimeUnit.HOURS.toMillis(1), 10_000);
+        Map<String, Long> delivered = new ConcurrentHashMap<>();
+        channel.subscribe(delivered::put);
+        long expiresAt = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+
+        // 먼저 INSERT 해서 낮은 id 를 받았지만 아직 커밋하지 않은 트랜잭션
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        AtomicLong lateId = new AtomicLong();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Future<?> lateTransaction = executor.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            lateId.set(revokedTokenRepository.saveAndFlush(new RevokedToken("late-commit", expiresAt)).getId());
+            inserted.countDown();
+            try {
+                commit.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 나중에 INSERT 해서 높은 id 를 받은 행이 먼저 커밋된다.
+        long earlyId = revokedTokenRepository.save(new RevokedToken("early-commit", expiresAt)).getId();
+        assertThat(earlyId).isGreaterThan(lateId.get());
+
+        channel.poll();
+        assertThat(delivered).containsKey("early-commit").doesNotContainKey("late-commit");
+
+        commit.countDown();
+        lateTransaction.get(10, TimeUnit.SECONDS);
+
+        channel.poll();
+        assertThat(delivered).containsEntry("late-commit", expiresAt);
+        channel.shutdown();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.oauth2.global.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles({"test", "fast-startup"})
+class FastStartupConfigTest {
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void createsHotPathBeansAtStartupAndLeavesTheRestLazy() {
+        // containsSingleton 은 이미 만들어진 빈만 확인한다.
+        assertThat(beanFactory.containsSingleton("tokenProvider")).isTrue();
+        assertThat(beanFactory.containsSingleton("tokenAuthenticator")).isTrue();
+        assertThat(beanFactory.containsSingleton("memberService")).isTrue();
+        assertThat(beanFactory.containsSingleton("memberImportService")).isFalse();
+    }
+}
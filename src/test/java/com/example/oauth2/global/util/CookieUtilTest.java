@@ -0,0 +1,53 @@
+package com.example.oauth2.global.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.Cookie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * CookieUtilBenchmark 가 재는 두 동작의 결과를 확인한다.
+ */
+class CookieUtilTest {
+
+    @Test
+    void addsSecureHttpOnlyCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        CookieUtil.addHttpOnlyCookie(response, "refresh_token", "value", 60);
+
+        Cookie cookie = response.getCookie("refresh_token");
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo("value");
+        assertThat(cookie.getPath()).isEqualTo("/");
+        assertThat(cookie.getMaxAge()).isEqualTo(60);
+        assertThat(cookie.isHttpOnly()).isTrue();
+        assertThat(cookie.getSecure()).isTrue();
+    }
+
+    @Test
+    void deletesOnlyTheNamedCookie() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("other", "1"), new Cookie("refresh_token", "value"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        CookieUtil.deleteCookie(request, response, "refresh_token");
+
+        assertThat(response.getCookies()).hasSize(1);
+        Cookie cookie = response.getCookie("refresh_token");
+        assertThat(cookie.getValue()).isEmpty();
+        assertThat(cookie.getMaxAge()).isZero();
+    }
+
+    @Test
+    void deleteWithoutCookiesDoesNothing() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        CookieUtil.deleteCookie(new MockHttpServletRequest(), response, "refresh_token");
+
+        assertThat(response.getCookies()).isEmpty();
+    }
+}
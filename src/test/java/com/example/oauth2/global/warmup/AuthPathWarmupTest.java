@@ -0,0 +1,61 @@
+package com.example.oauth2.global.warmup;
+
+import com.example.oauth2.auth.jwt.TokenAuthenticator;
+import com.example.oauth2.auth.jwt.TokenProvider;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.example.oauth2.member.service.RefreshTokenStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 목 웹 환경이라 자기 자신에게 보내는 HTTP 요청은 건너뛴다.
+ */
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=2000",
+        "app.warmup.repository-iterations=5"
+})
+@ActiveProfiles("test")
+class AuthPathWarmupTest {
+
+    @Autowired
+    private AuthPathWarmup authPathWarmup;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Test
+    void reportsUpOnceWarmUpFinishesInTheBackground() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (authPathWarmup.health().getStatus() != Status.UP && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        assertThat(authPathWarmup.health().getStatus()).isEqualTo(Status.UP);
+    }
+
+    @Test
+    void failedWarmUpStillReportsUp() {
+        TokenProvider tokenProvider = mock(TokenProvider.class);
+        when(tokenProvider.generateToken(anyLong(), any(Duration.class))).thenThrow(new IllegalStateException("no key"));
+        AuthPathWarmup warmup = new AuthPathWarmup(tokenProvider, mock(TokenAuthenticator.class),
+                mock(MemberRepository.class), mock(RefreshTokenStore.class), 10, 0, 1000, 1, 0);
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+        warmup.warmUp(applicationContext);
+
+        assertThat(warmup.health().getStatus()).isEqualTo(Status.UP);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.oauth2.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 로컬 카카오 스텁을 상대로 로그인, 토큰 재발급, 회원 조회의 처리량과 지연 시간을 측정한다.
+ * ./gradlew loadTest -DloadTest.concurrency=64 -DloadTest.kakaoLatencyMs=50 -DloadTest.kakaoErrorRate=0.01
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "OAuth2.kakao.http.max-connections=1000"
+})
+@ActiveProfiles("test")
+class AuthLoadTest {
+
+    private static final int CONCURRENCY = Integer.getInteger("loadTest.concurrency", 64);
+
+    private static final int USERS = Integer.getInteger("loadTest.users", 2_000);
+
+    private static final int REQUESTS = Integer.getInteger("loadTest.requests", 20_000);
+
+    private static final KakaoStubServer kakao = startKakaoStub();
+
+    @LocalServerPort
+    private int port;
+
+    @DynamicPropertySource
+    static void kakaoStub(DynamicPropertyRegistry registry) {
+        registry.add("OAuth2.kakao.token-uri", kakao::tokenUri);
+        registry.add("OAuth2.kakao.user-info-uri", kakao::userInfoUri);
+    }
+
+    @AfterAll
+    static void stopKakaoStub() {
+        kakao.close();
+    }
+
+    @Test
+    void loginRefreshAndMember() throws Exception {
+        LoadReport report = new LoadReport("auth")
+                .setting("concurrency", CONCURRENCY)
+                .setting("users", USERS)
+                .setting("requests", REQUESTS)
+                .setting("kakaoLatencyMs", kakao.getLatencyMs())
+                .setting("kakaoErrorRate", kakao.getErrorRate());
+
+        String[] accessTokens = new String[USERS];
+        String[] refreshTokens = new String[USERS];
+
+        try (LoadGenerator generator = new LoadGenerator(CONCURRENCY)) {
+            // 1. 카카오 로그인
+            EndpointResult login = generator.run("login", USERS,
+                    index -> post("/api/auth/kakao", "{\"code\":\"" + (900_000 + index) + "\"}"),
+                    (index, response) -> {
+                        if (response.statusCode() != 200) {
+                            return false;
+                        }
+                        accessTokens[index] = response.headers().firstValue("Authorization").orElse(null);
+                        refreshTokens[index] = refreshTokenCookie(response);
+                        return accessTokens[index] != null && refreshTokens[index] != null;
+                    });
+            report.add(login);
+
+            List<Integer> loggedIn = new ArrayList<>();
+            for (int i = 0; i < USERS; i++) {
+                if (accessTokens[i] != null) {
+                    loggedIn.add(i);
+                }
+            }
+            assertThat(loggedIn).isNotEmpty();
+
+            // 2. 리프레시 토큰으로 액세스 토큰 재발급
+            report.add(generator.run("refresh", REQUESTS,
+                    index -> post("/api/auth/refresh",
+                            "{\"refreshToken\":\"" + refreshTokens[loggedIn.get(index % loggedIn.size())] + "\"}"),
+                    (index, response) -> response.statusCode() == 201));
+
+            // 3. 액세스 토큰으로 회원 조회
+            report.add(generator.run("member", REQUESTS,
+                    index -> HttpRequest.newBuilder(uri("/api/member"))
+                            .timeout(Duration.ofSeconds(30))
+                            .header("Authorization", "Bearer " + accessTokens[loggedIn.get(index % loggedIn.size())])
+                            .GET()
+                            .build(),
+                    (index, response) -> response.statusCode() == 200));
+
+            report.write();
+
+            // 주입한 카카오 에러만큼만 로그인이 실패할 수 있다.
+            assertThat((long) login.getErrors()).isLessThanOrEqualTo(kakao.getInjectedErrorCount());
+            assertThat(report.getResults().subList(1, 3)).allSatisfy(result -> assertThat(result.getErrors()).isZero());
+        }
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(uri(path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String refreshTokenCookie(HttpResponse<?> response) {
+        for (String cookie : response.headers().allValues("Set-Cookie")) {
+            if (cookie.startsWith("refresh_token=")) {
+                int end = cookie.indexOf(';');
+                return cookie.substring("refresh_token=".length(), end < 0 ? cookie.length() : end);
+            }
+        }
+        return null;
+    }
+
+    private static KakaoStubServer startKakaoStub() {
+        try {
+            return new KakaoStubServer(Long.getLong("loadTest.kakaoLatencyMs", 50),
+                    Double.parseDouble(System.getProperty("loadTest.kakaoErrorRate", "0")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.oauth2.load;
+
+import java.util.Arrays;
+
+/**
+ * 한 엔드포인트에 대한 부하 테스트 결과이다. 실패한 요청은 지연 시간 통계에서 뺀다.
+ */
+public final class EndpointResult {
+
+    private final String name;
+
+    private final int requests;
+
+    private final int errors;
+
+    private final long elapsedNanos;
+
+    // 성공한 요청의 지연 시간(나노초), 오름차순
+    private final long[] sortedLatencies;
+
+    EndpointResult(String name, long[] latencies, long elapsedNanos) {
+        this.name = name;
+        this.requests = latencies.length;
+        this.sortedLatencies = Arrays.stream(latencies).filter(latency -> latency >= 0).sorted().toArray();
+        this.errors = requests - sortedLatencies.length;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getRequests() {
+        return requests;
+    }
+
+    public int getErrors() {
+        return errors;
+    }
+
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    /**
+     * 초당 성공한 요청 수
+     */
+    public double getThroughput() {
+        return sortedLatencies.length / getElapsedSeconds();
+    }
+
+    /**
+     * 백분위 지연 시간을 밀리초로 반환하는 메서드이다.
+     * @param percentile 0 ~ 1 사이의 값
+     */
+    public double percentileMillis(double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(0, index)] / 1e6;
+    }
+}
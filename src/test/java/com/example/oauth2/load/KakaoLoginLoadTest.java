@@ -0,0 +1,90 @@
+package com.example.oauth2.load;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카카오 응답이 느린 상황에서 동시 로그인을 한꺼번에 보내고 처리량과 지연 시간을 기록한다.
+ * ./gradlew loadTest 와 ./gradlew loadTest -PvirtualThreads 를 같은 힙 크기에서 실행해 결과를 비교한다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "OAuth2.kakao.http.max-connections=2000",
+        "OAuth2.kakao.http.pool-timeout-ms=30000"
+})
+@ActiveProfiles("test")
+class KakaoLoginLoadTest {
+
+    private static final long KAKAO_LATENCY_MS = 300;
+
+    private static final int CONCURRENT_LOGINS = Integer.getInteger("loadTest.logins", 1000);
+
+    private static final KakaoStubServer kakao = startKakaoStub();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private Environment environment;
+
+    @DynamicPropertySource
+    static void kakaoStub(DynamicPropertyRegistry registry) {
+        registry.add("OAuth2.kakao.token-uri", kakao::tokenUri);
+        registry.add("OAuth2.kakao.user-info-uri", kakao::userInfoUri);
+    }
+
+    @AfterAll
+    static void stopKakaoStub() {
+        kakao.close();
+    }
+
+    @Test
+    void concurrentLogins() throws Exception {
+        String mode = environment.getProperty("app.virtual-threads.enabled", Boolean.class, false) ? "virtual" : "platform";
+        URI uri = URI.create("http://localhost:" + port + "/api/auth/kakao");
+
+        EndpointResult login;
+        try (LoadGenerator generator = new LoadGenerator(CONCURRENT_LOGINS)) {
+            login = generator.run("login", CONCURRENT_LOGINS * 2,
+                    index -> HttpRequest.newBuilder(uri)
+                            .timeout(Duration.ofSeconds(60))
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"" + (100_000 + index) + "\"}"))
+                            .build(),
+                    (index, response) -> response.statusCode() == 200);
+        }
+
+        new LoadReport("kakao-login-" + mode)
+                .setting("mode", mode)
+                .setting("concurrency", CONCURRENT_LOGINS)
+                .setting("kakaoLatencyMs", KAKAO_LATENCY_MS)
+                .add(login)
+                .write();
+
+        assertThat(login.getErrors()).isZero();
+    }
+
+    private static KakaoStubServer startKakaoStub() {
+        try {
+            return new KakaoStubServer(KAKAO_LATENCY_MS, 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.oauth2.load;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * kauth.kakao.com/oauth/token 과 kapi.kakao.com/v2/user/me 를 흉내 내는 로컬 서버이다.
+ * 응답 지연은 스레드를 재우지 않고 예약 실행으로 만들어서, 동시 요청이 많아도 스텁이 병목이 되지 않는다.
+ * 인가 코드는 숫자여야 하며, 그 값이 카카오 회원 ID 가 된다.
+ */
+public final class KakaoStubServer implements AutoCloseable {
+
+    public static final String TOKEN_PATH = "/oauth/token";
+
+    public static final String USER_INFO_PATH = "/v2/user/me";
+
+    private static final String ACCESS_TOKEN_PREFIX = "stub-";
+
+    private final HttpServer server;
+
+    private final ExecutorService dispatcher;
+
+    private final ScheduledExecutorService delayer;
+
+    private final long latencyMs;
+
+    private final double errorRate;
+
+    private final AtomicLong requests = new AtomicLong();
+
+    private final AtomicLong injectedErrors = new AtomicLong();
+
+    /**
+     * @param latencyMs 각 응답에 더할 지연 시간
+     * @param errorRate 500 에러로 응답할 확률 (0 ~ 1)
+     */
+    public KakaoStubServer(long latencyMs, double errorRate) throws IOException {
+        this.latencyMs = latencyMs;
+        this.errorRate = errorRate;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        this.dispatcher = Executors.newFixedThreadPool(4);
+        this.delayer = Executors.newScheduledThreadPool(2);
+        server.setExecutor(dispatcher);
+        server.createContext(TOKEN_PATH, exchange -> handle(exchange, this::tokenResponse));
+        server.createContext(USER_INFO_PATH, exchange -> handle(exchange, this::userInfoResponse));
+        server.start();
+    }
+
+    public String tokenUri() {
+        return baseUri() + TOKEN_PATH;
+    }
+
+    public String userInfoUri() {
+        return baseUri() + USER_INFO_PATH;
+    }
+
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrors.get();
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        delayer.shutdownNow();
+        dispatcher.shutdownNow();
+    }
+
+    private String baseUri() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange, ResponseBody responseBody) throws IOException {
+        requests.incrementAndGet();
+        String body;
+        int status;
+        try (InputStream in = exchange.getRequestBody()) {
+            String requestBody = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                status = 500;
+                body = "{\"error\":\"injected\"}";
+            } else {
+                status = 200;
+                body = responseBody.create(exchange, requestBody);
+            }
+        } catch (RuntimeException e) {
+            status = 400;
+            body = "{\"error\":\"bad_request\"}";
+        }
+
+        int finalStatus = status;
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        if (latencyMs > 0) {
+            delayer.schedule(() -> respond(exchange, finalStatus, bytes), latencyMs, TimeUnit.MILLISECONDS);
+        } else {
+            respond(exchange, finalStatus, bytes);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) {
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (IOException e) {
+            exchange.close();
+        }
+    }
+
+    private String tokenResponse(HttpExchange exchange, String requestBody) {
+        String code = formParameter(requestBody, "code");
+        Long.parseLong(code);
+        return "{\"token_type\":\"bearer\",\"access_token\":\"" + ACCESS_TOKEN_PREFIX + code + "\",\"expires_in\":21599}";
+    }
+
+    private String userInfoResponse(HttpExchange exchange, String requestBody) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        String id = authorization.substring(("Bearer " + ACCESS_TOKEN_PREFIX).length());
+        Long.parseLong(id);
+        return "{\"id\":" + id + ",\"kakao_account\":{\"profile\":{"
+                + "\"nickname\":\"nickname" + id + "\","
+                + "\"profile_image_url\":\"https://example.com/" + id + ".png\"}}}";
+    }
+
+    private static String formParameter(String form, String name) {
+        for (String pair : form.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0 && pair.substring(0, eq).equals(name)) {
+                return URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            }
+        }
+        throw new IllegalArgumentException("Missing form parameter: " + name);
+    }
+
+    private interface ResponseBody {
+        String create(HttpExchange exchange, String requestBody);
+    }
+}
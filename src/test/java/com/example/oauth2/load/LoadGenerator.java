@@ -0,0 +1,85 @@
+package com.example.oauth2.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+/**
+ * 고정된 수의 작업 스레드가 요청을 하나씩 동기로 보내는 부하 생성기이다.
+ * 동시 요청 수가 작업 스레드 수로 고정되므로 커밋 사이의 결과를 비교하기 쉽다.
+ */
+public final class LoadGenerator implements AutoCloseable {
+
+    private final int concurrency;
+
+    private final HttpClient client;
+
+    private final ExecutorService workers;
+
+    public LoadGenerator(int concurrency) {
+        this.concurrency = concurrency;
+        this.workers = Executors.newFixedThreadPool(concurrency);
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * 요청을 count 번 보내고 엔드포인트별 결과를 반환하는 메서드이다.
+     * @param name 결과에 표시할 이름
+     * @param count 보낼 요청 수
+     * @param requestFactory 요청 번호로 요청을 만드는 함수
+     * @param responseHandler 응답을 검사하는 함수, 성공이면 true
+     */
+    public EndpointResult run(String name, int count, IntFunction<HttpRequest> requestFactory,
+                              ResponseHandler responseHandler) throws Exception {
+        long[] latencies = new long[count];
+        AtomicInteger next = new AtomicInteger();
+
+        long startedAt = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> {
+                int index;
+                while ((index = next.getAndIncrement()) < count) {
+                    long sentAt = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        HttpResponse<String> response = client.send(requestFactory.apply(index), HttpResponse.BodyHandlers.ofString());
+                        succeeded = responseHandler.handle(index, response);
+                    } catch (Exception e) {
+                        succeeded = false;
+                    }
+                    latencies[index] = succeeded ? System.nanoTime() - sentAt : -1;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        return new EndpointResult(name, latencies, System.nanoTime() - startedAt);
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    public interface ResponseHandler {
+        boolean handle(int index, HttpResponse<String> response);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.oauth2.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 결과를 표로 로그에 남기고, 커밋별로 비교할 수 있게 JSON 파일로 남긴다.
+ * 파일은 loadTest.reportDir (기본 build/reports/load) 아래에 시나리오와 커밋 이름으로 저장된다.
+ */
+public final class LoadReport {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadReport.class);
+
+    private final String scenario;
+
+    private final Map<String, Object> settings = new LinkedHashMap<>();
+
+    private final List<EndpointResult> results = new ArrayList<>();
+
+    public LoadReport(String scenario) {
+        this.scenario = scenario;
+        settings.put("commit", currentCommit());
+        settings.put("javaVersion", System.getProperty("java.version"));
+        settings.put("maxHeapMb", Runtime.getRuntime().maxMemory() / (1024 * 1024));
+        settings.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+    }
+
+    public LoadReport setting(String name, Object value) {
+        settings.put(name, value);
+        return this;
+    }
+
+    public LoadReport add(EndpointResult result) {
+        results.add(result);
+        return this;
+    }
+
+    public List<EndpointResult> getResults() {
+        return results;
+    }
+
+    /**
+     * 결과를 표로 로그에 남기고 JSON 파일로 저장하는 메서드이다.
+     * @return 저장한 파일 경로
+     */
+    public Path write() throws IOException {
+        Path dir = Paths.get(System.getProperty("loadTest.reportDir", "build/reports/load"));
+        Files.createDirectories(dir);
+        Path file = dir.resolve(scenario + "-" + settings.get("commit") + ".json");
+        Files.write(file, toJson().getBytes());
+        log.info("{}Saved to {}", toTable(), file);
+        return file;
+    }
+
+    String toTable() {
+        StringBuilder table = new StringBuilder();
+        table.append(String.format(Locale.ROOT, "%n[%s] %s%n", scenario, settings));
+        table.append(String.format(Locale.ROOT, "%-12s %8s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "max(ms)"));
+        for (EndpointResult result : results) {
+            table.append(String.format(Locale.ROOT, "%-12s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    result.getName(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.percentileMillis(0.50), result.percentileMillis(0.90),
+                    result.percentileMillis(0.99), result.percentileMillis(1.0)));
+        }
+        return table.toString();
+    }
+
+    String toJson() {
+        StringBuilder json = new StringBuilder("{\n  \"scenario\": \"").append(scenario).append("\",\n  \"settings\": {");
+        String separator = "";
+        for (Map.Entry<String, Object> setting : settings.entrySet()) {
+            json.append(separator).append("\n    \"").append(setting.getKey()).append("\": ");
+            Object value = setting.getValue();
+            if (value instanceof Number || value instanceof Boolean) {
+                json.append(value);
+            } else {
+                json.append('"').append(value).append('"');
+            }
+            separator = ",";
+        }
+        json.append("\n  },\n  \"endpoints\": [");
+        separator = "";
+        for (EndpointResult result : results) {
+            json.append(separator).append(String.format(Locale.ROOT,
+                    "\n    {\"name\": \"%s\", \"requests\": %d, \"errors\": %d, \"elapsedSeconds\": %.3f, "
+                            + "\"throughput\": %.1f, \"p50Ms\": %.3f, \"p90Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}",
+                    result.getName(), result.getRequests(), result.getErrors(), result.getElapsedSeconds(),
+                    result.getThroughput(), result.percentileMillis(0.50), result.percentileMillis(0.90),
+                    result.percentileMillis(0.99), result.percentileMillis(1.0)));
+            separator = ",";
+        }
+        return json.append("\n  ]\n}\n").toString();
+    }
+
+    /**
+     * 현재 git 커밋의 짧은 해시, 알 수 없으면 "local"
+     */
+    private static String currentCommit() {
+        String commit = System.getProperty("loadTest.commit");
+        if (commit != null && !commit.isEmpty()) {
+            return commit;
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            String output = new String(process.getInputStream().readAllBytes()).trim();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            // git 이 없는 환경
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "local";
+    }
+}
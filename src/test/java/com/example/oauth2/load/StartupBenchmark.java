@@ -0,0 +1,194 @@
+package com.example.oauth2.load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 애플리케이션을 별도 JVM 으로 띄우고, 프로세스를 시작한 때부터 첫 인증 요청(카카오 로그인 후 /api/member)이
+ * 성공할 때까지 걸린 시간을 잰다. 기본 설정, fast-startup 프로파일, fast-startup 프로파일 + AppCDS 아카이브를 비교하고
+ * 결과는 부하 테스트와 같은 형식으로 build/reports/load 에 남긴다.
+ * ./gradlew startupBenchmark -Dstartup.runs=5
+ */
+public final class StartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    private static final String MAIN_CLASS = "com.example.oauth2.Oauth2Application";
+
+    private static final String FAST_STARTUP_PROFILE = "--spring.profiles.active=fast-startup";
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("startup-benchmark-secret-for-oauth2-jwt-example".getBytes(StandardCharsets.US_ASCII));
+
+    private static final long STARTUP_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(Long.getLong("startup.timeoutSeconds", 120));
+
+    private static final long POLL_INTERVAL_MS = 10;
+
+    private final String java = ProcessHandle.current().info().command().orElse("java");
+
+    private final String classpath;
+
+    private final Path workDir;
+
+    private final KakaoStubServer kakao;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    private int launches;
+
+    private StartupBenchmark(String classpath, Path workDir, KakaoStubServer kakao) {
+        this.classpath = classpath;
+        this.workDir = workDir;
+        this.kakao = kakao;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String classpath = System.getProperty("startup.classpath", System.getProperty("java.class.path"));
+        Path workDir = Paths.get(System.getProperty("startup.workDir", "build/fast-startup"));
+        int runs = Integer.getInteger("startup.runs", 5);
+        Files.createDirectories(workDir);
+
+        LoadReport report = new LoadReport("startup")
+                .setting("runs", runs);
+        try (KakaoStubServer kakao = new KakaoStubServer(0, 0)) {
+            StartupBenchmark benchmark = new StartupBenchmark(classpath, workDir, kakao);
+            report.add(benchmark.measure("default", runs, Collections.emptyList(), Collections.emptyList()));
+            report.add(benchmark.measure("fast-startup", runs, Collections.emptyList(), List.of(FAST_STARTUP_PROFILE)));
+
+            // -XX:ArchiveClassesAtExit 는 JDK 13 부터 지원한다.
+            if (Runtime.version().feature() >= 13) {
+                Path archive = workDir.resolve("startup-benchmark.jsa");
+                Files.deleteIfExists(archive);
+                // 학습 실행 : 첫 인증 요청까지 처리한 뒤 종료하면서 그동안 읽은 클래스를 아카이브에 쓴다.
+                if (benchmark.timeToFirstAuthenticatedRequest("cds-training",
+                        List.of("-XX:ArchiveClassesAtExit=" + archive), List.of(FAST_STARTUP_PROFILE)) < 0) {
+                    throw new IllegalStateException("AppCDS training run failed, see " + workDir);
+                }
+                report.add(benchmark.measure("fast-startup+cds", runs,
+                        List.of("-XX:SharedArchiveFile=" + archive), List.of(FAST_STARTUP_PROFILE)));
+            } else {
+                log.info("Skipping AppCDS runs, JDK 13+ is required (running {})", Runtime.version());
+            }
+        }
+        report.write();
+    }
+
+    /**
+     * 같은 설정으로 여러 번 띄워서 첫 인증 요청까지의 시간을 모으는 메서드이다.
+     */
+    private EndpointResult measure(String name, int runs, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        long startedAt = System.nanoTime();
+        long[] latencies = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            latencies[i] = timeToFirstAuthenticatedRequest(name, jvmArgs, appArgs);
+        }
+        return new EndpointResult(name, latencies, System.nanoTime() - startedAt);
+    }
+
+    /**
+     * 애플리케이션을 띄우고 첫 인증 요청이 성공할 때까지 걸린 시간을 재는 메서드이다.
+     * @return 걸린 시간(나노초), 제한 시간 안에 성공하지 못하면 -1
+     */
+    private long timeToFirstAuthenticatedRequest(String name, List<String> jvmArgs, List<String> appArgs) throws Exception {
+        int launch = ++launches;
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(jvmArgs);
+        command.addAll(Arrays.asList("-cp", classpath, MAIN_CLASS,
+                "--server.port=" + port,
+                "--jwt.header=Authorization",
+                "--jwt.secret=" + SECRET,
+                "--OAuth2.kakao.client-id=startup-benchmark",
+                "--OAuth2.kakao.redirect-uri=http://localhost/login/callback",
+                "--OAuth2.kakao.token-uri=" + kakao.tokenUri(),
+                "--OAuth2.kakao.user-info-uri=" + kakao.userInfoUri(),
+                "--spring.datasource.url=jdbc:h2:mem:startup-benchmark;DB_CLOSE_DELAY=-1"));
+        command.addAll(appArgs);
+
+        File logFile = workDir.resolve("startup-" + launch + "-" + name + ".log").toFile();
+        long startedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile)
+                .start();
+        try {
+            String accessToken = null;
+            while (System.nanoTime() - startedAt < STARTUP_TIMEOUT_NANOS && process.isAlive()) {
+                try {
+                    if (accessToken == null) {
+                        accessToken = login(port, launch);
+                    }
+                    if (accessToken != null && isAuthenticated(port, accessToken)) {
+                        long elapsed = System.nanoTime() - startedAt;
+                        log.info(String.format(Locale.ROOT, "%-18s run %-3d %8.1f ms", name, launch, elapsed / 1e6));
+                        return elapsed;
+                    }
+                } catch (IOException e) {
+                    // 아직 포트를 열지 않았다.
+                }
+                Thread.sleep(POLL_INTERVAL_MS);
+            }
+            log.warn(String.format(Locale.ROOT, "%-18s run %-3d failed, see %s", name, launch, logFile));
+            return -1;
+        } finally {
+            // SIGTERM 으로 정상 종료시켜야 학습 실행이 아카이브를 쓴다.
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private String login(int port, int code) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(port, "/api/auth/kakao"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"code\":\"" + code + "\"}"))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200 ? response.headers().firstValue("Authorization").orElse(null) : null;
+    }
+
+    private boolean isAuthenticated(int port, String accessToken) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri(port, "/api/member"))
+                        .timeout(Duration.ofSeconds(30))
+                        .header("Authorization", "Bearer " + accessToken)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        return response.statusCode() == 200;
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.oauth2.member.controller;
+
+import com.example.oauth2.auth.jwt.TokenProvider;
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.service.MemberService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+
+/**
+ * spring.main.web-application-type=reactive 로 띄워서 WebFlux 필터 체인과 컨트롤러를 함께 확인한다.
+ */
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class ReactiveMemberControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    void rejectsRequestsWithoutValidToken() {
+        webTestClient.get().uri("/api/member")
+                .exchange()
+                .expectStatus().isUnauthorized();
+
+        webTestClient.get().uri("/api/member")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenProvider.generateToken(1L, Duration.ofHours(-1)))
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    void returnsMemberAndAnswersMatchingEtagWithNotModified() {
+        Long memberId = memberService.registerOauthMember(new OauthInfo("reactive-1", OauthProvider.KAKAO), "reactive", null, "token");
+        String authorization = "Bearer " + tokenProvider.generateToken(memberId, Duration.ofHours(1));
+
+        String etag = webTestClient.get().uri("/api/member")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(HttpHeaders.ETAG)
+                .expectBody().jsonPath("$.nickname").isEqualTo("reactive")
+                .returnResult()
+                .getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/api/member")
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.oauth2.member.repository;
+
+import com.example.oauth2.member.domain.IdSequences;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * IDENTITY 로 채워진 기존 테이블에 시퀀스를 만드는 과정을 테스트마다 새 H2 데이터베이스에서 확인한다.
+ */
+class IdSequenceMigrationTest {
+
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:id-sequence-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void createsSequencePastMaxIdOfPopulatedTable() {
+        jdbcTemplate.execute("create table member (id bigint generated by default as identity primary key)");
+        jdbcTemplate.execute("create table refresh_token (id bigint generated by default as identity primary key)");
+        jdbcTemplate.update("insert into member (id) values (1), (7), (1234)");
+
+        new IdSequenceMigration(dataSource).afterPropertiesSet();
+
+        // pooled 옵티마이저는 (값 - 할당 크기, 값] 구간을 쓰므로, 첫 구간의 시작도 기존 id 뒤여야 한다.
+        long memberNext = nextValue("member_seq");
+        assertThat(memberNext - IdSequences.ALLOCATION_SIZE + 1).isGreaterThan(1234);
+        assertThat(nextValue("member_seq")).isEqualTo(memberNext + IdSequences.ALLOCATION_SIZE);
+        // 빈 테이블은 max(id) 를 0 으로 본다.
+        assertThat(nextValue("refresh_token_seq")).isEqualTo(IdSequences.ALLOCATION_SIZE + 1);
+    }
+
+    @Test
+    void leavesExistingSequenceAlone() {
+        jdbcTemplate.execute("create table member (id bigint primary key)");
+        jdbcTemplate.update("insert into member (id) values (5000)");
+        jdbcTemplate.execute("create sequence member_seq start with 10000 increment by " + IdSequences.ALLOCATION_SIZE);
+
+        new IdSequenceMigration(dataSource).afterPropertiesSet();
+
+        assertThat(nextValue("member_seq")).isEqualTo(10000);
+    }
+
+    @Test
+    void skipsMissingTables() {
+        new IdSequenceMigration(dataSource).afterPropertiesSet();
+
+        Integer sequences = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.sequences where lower(sequence_name) in ('member_seq', 'refresh_token_seq')",
+                Integer.class);
+        assertThat(sequences).isZero();
+    }
+
+    private long nextValue(String sequence) {
+        Long value = jdbcTemplate.queryForObject("select next value for " + sequence, Long.class);
+        return value == null ? -1 : value;
+    }
+}
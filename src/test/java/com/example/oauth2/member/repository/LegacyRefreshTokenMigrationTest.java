@@ -0,0 +1,66 @@
+package com.example.oauth2.member.repository;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 원문 컬럼이 있는 기존 refresh_token 테이블을 옮기는 과정을 테스트마다 새 H2 데이터베이스에서 확인한다.
+ */
+class LegacyRefreshTokenMigrationTest {
+
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:legacy-refresh-token-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void hashesRawTokensInBatchesAndDropsTheRawColumn() {
+        jdbcTemplate.execute("create table refresh_token (id bigint primary key, member_id bigint, refresh_token varchar(512))");
+        jdbcTemplate.update("insert into refresh_token (id, member_id, refresh_token) values (1, 1, 'token-1'), (2, 2, 'token-2'), (5, 5, 'token-5')");
+
+        // 배치 크기보다 행이 많아도 모두 옮긴다.
+        new LegacyRefreshTokenMigration(dataSource, true, 2).afterPropertiesSet();
+
+        for (long id : new long[]{1, 2, 5}) {
+            assertThat(jdbcTemplate.queryForObject("select token_hash from refresh_token where id = ?", String.class, id))
+                    .isEqualTo(RefreshToken.hash("token-" + id));
+        }
+        assertThat(columnCount("refresh_token")).isZero();
+    }
+
+    @Test
+    void leavesHashedSchemaAlone() {
+        jdbcTemplate.execute("create table refresh_token (id bigint primary key, member_id bigint, token_hash varchar(64))");
+        jdbcTemplate.update("insert into refresh_token (id, member_id, token_hash) values (1, 1, 'hash')");
+
+        new LegacyRefreshTokenMigration(dataSource, true, 2).afterPropertiesSet();
+
+        assertThat(jdbcTemplate.queryForObject("select token_hash from refresh_token where id = 1", String.class)).isEqualTo("hash");
+    }
+
+    @Test
+    void skipsMissingTable() {
+        new LegacyRefreshTokenMigration(dataSource, true, 2).afterPropertiesSet();
+
+        assertThat(columnCount("token_hash")).isZero();
+    }
+
+    private int columnCount(String column) {
+        Integer count = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns where lower(column_name) = ?", Integer.class, column);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.domain.RefreshToken;
+import com.example.oauth2.member.repository.MemberRepository;
+import com.example.oauth2.member.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기본 저장소(jpa)로 뜬 컨텍스트에서 메모리 저장소를 직접 만들어 확인한다.
+ * write-behind 가 테스트 중에 돌지 않도록 recover() 를 부르지 않는다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class InMemoryRefreshTokenStoreTest {
+
+    private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryRefreshTokenStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryRefreshTokenStore(refreshTokenRepository, transactionManager, 500, HOUR_MS);
+    }
+
+    @Test
+    void rotatedTokenIsRejectedBeforeItIsWrittenBehind() {
+        Long memberId = saveMember("rotated-1");
+        long expiresAt = System.currentTimeMillis() + HOUR_MS;
+        refreshTokenRepository.save(new RefreshToken(memberId, "old-token", expiresAt));
+
+        store.save(memberId, "new-token", expiresAt);
+
+        // DB 에는 아직 이전 토큰이 남아 있지만 메모리의 새 토큰이 우선한다.
+        assertThat(store.findMemberId("old-token")).isEmpty();
+        assertThat(store.findMemberId("new-token")).contains(memberId);
+    }
+
+    @Test
+    void evictExpiredSkipsTokensNotYetWrittenBehind() throws InterruptedException {
+        // 회원 행이 없으므로 메모리에서 버려지면 DB 로 다시 찾아도 나오지 않는다.
+        long memberId = 980_001L;
+        long now = System.currentTimeMillis();
+        store.save(memberId, "expired-dirty", now - HOUR_MS);
+
+        store.evictExpired(now);
+        assertThat(store.findMemberId("expired-dirty")).contains(memberId);
+
+        // DB 에 기록한 뒤에는 버린다.
+        store.shutdown();
+        assertThat(refreshTokenRepository.findByMemberId(memberId)).isPresent();
+        store.evictExpired(now);
+        assertThat(store.findMemberId("expired-dirty")).isEmpty();
+    }
+
+    @Test
+    void deletedTokenIsRejectedUntilTheFlusherDeletesTheRow() throws InterruptedException {
+        Long memberId = saveMember("deleted-1");
+        long expiresAt = System.currentTimeMillis() + HOUR_MS;
+        refreshTokenRepository.save(new RefreshToken(memberId, "logged-out", expiresAt));
+
+        store.delete(memberId);
+
+        // 행은 아직 DB 에 있지만 지운 표시가 있어서 통과시키지 않는다.
+        assertThat(refreshTokenRepository.findByMemberId(memberId)).isPresent();
+        assertThat(store.findMemberId("logged-out")).isEmpty();
+
+        store.shutdown();
+        assertThat(refreshTokenRepository.findByMemberId(memberId)).isEmpty();
+    }
+
+    @Test
+    void saveAfterDeleteIsWrittenBehind() throws InterruptedException {
+        Long memberId = saveMember("deleted-2");
+        long expiresAt = System.currentTimeMillis() + HOUR_MS;
+        refreshTokenRepository.save(new RefreshToken(memberId, "before-logout", expiresAt));
+
+        store.delete(memberId);
+        store.save(memberId, "after-login", expiresAt);
+        store.shutdown();
+
+        assertThat(refreshTokenRepository.findByMemberId(memberId)).map(RefreshToken::getTokenHash)
+                .contains(RefreshToken.hash("after-login"));
+        assertThat(store.findMemberId("before-logout")).isEmpty();
+    }
+
+    private Long saveMember(String oauthId) {
+        return memberRepository.save(Member.builder()
+                .nickname(oauthId)
+                .oauthInfo(new OauthInfo(oauthId, OauthProvider.KAKAO))
+                .build()).getId();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.Member;
+import com.example.oauth2.member.domain.MemberSnapshot;
+import com.example.oauth2.member.domain.OauthInfo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void memberCacheExposesHitsMissesAndEvictionsAsMeters() {
+        MemberCache cache = new MemberCache(TimeUnit.MINUTES.toMillis(5), 2, meterRegistry);
+
+        cache.get(1L, MemberCacheTest::snapshot);
+        cache.get(1L, MemberCacheTest::snapshot);
+        cache.get(2L, MemberCacheTest::snapshot);
+        // 가득 찬 상태에서 새 회원을 읽으면 하나를 내보낸다.
+        cache.get(3L, MemberCacheTest::snapshot);
+
+        assertThat(meterRegistry.get("member.cache").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.cache").tag("result", "miss").functionCounter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("member.cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void oauthMemberIdCacheExposesHitsMissesAndEvictionsAsMeters() {
+        OauthMemberIdCache cache = new OauthMemberIdCache(2, meterRegistry);
+        cache.put(oauthInfo("1"), 1L);
+        cache.put(oauthInfo("2"), 2L);
+
+        cache.get(oauthInfo("1"));
+        cache.get(oauthInfo("unknown"));
+        cache.put(oauthInfo("3"), 3L);
+
+        assertThat(meterRegistry.get("member.oauth_id_cache").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.oauth_id_cache").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.oauth_id_cache.evictions").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("member.oauth_id_cache.size").gauge().value()).isEqualTo(2);
+    }
+
+    private static MemberSnapshot snapshot(Long memberId) {
+        return MemberSnapshot.of(Member.builder().id(memberId).nickname("member-" + memberId).build());
+    }
+
+    private static OauthInfo oauthInfo(String oauthId) {
+        return new OauthInfo(oauthId, OauthProvider.KAKAO);
+    }
+}
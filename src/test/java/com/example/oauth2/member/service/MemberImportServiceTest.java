@@ -0,0 +1,104 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.dto.MemberImportResponse;
+import com.example.oauth2.member.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 청크 크기를 2 로 두고 대량 가입을 확인한다.
+ */
+@SpringBootTest(properties = {
+        "member.import.enabled=true",
+        "member.import.token=test-import-token",
+        "member.import.chunk-size=2"
+})
+@ActiveProfiles("test")
+class MemberImportServiceTest {
+
+    @Autowired
+    private MemberImportService memberImportService;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void skipsExistingMembersAndReportsInvalidLines() throws IOException {
+        memberService.registerOauthMember(kakao("import-existing"), "existing", null, "token");
+
+        MemberImportResponse response = memberImportService.importMembers(ndjson(
+                line("import-a", "a"),
+                "{not json",
+                line("import-existing", "existing"),
+                "",
+                line("import-b", "b"),
+                "{\"oauthId\":\"import-no-provider\"}",
+                line("import-a", "again"),
+                line("import-c", "c")));
+
+        assertThat(response.getError()).isNull();
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getSkipped()).isEqualTo(2);
+        assertThat(response.getInvalid()).isEqualTo(2);
+        assertThat(response.getInvalidLines()).containsExactly(2L, 6L);
+        for (String oauthId : Arrays.asList("import-a", "import-b", "import-c")) {
+            assertThat(memberRepository.findByOauthInfo(kakao(oauthId))).isPresent();
+        }
+    }
+
+    @Test
+    void rerunAfterFailureImportsOnlyTheRest() throws IOException {
+        char[] tooLong = new char[300];
+        Arrays.fill(tooLong, 'x');
+
+        // 두 번째 청크에서 닉네임이 컬럼 길이를 넘어서 실패한다.
+        MemberImportResponse failed = memberImportService.importMembers(ndjson(
+                line("rerun-1", "one"),
+                line("rerun-2", "two"),
+                line("rerun-3", new String(tooLong)),
+                line("rerun-4", "four")));
+
+        assertThat(failed.getError()).isNotNull();
+        assertThat(failed.getImported()).isEqualTo(2);
+        assertThat(memberRepository.findByOauthInfo(kakao("rerun-2"))).isPresent();
+        // 실패한 청크는 통째로 롤백된다.
+        assertThat(memberRepository.findByOauthInfo(kakao("rerun-4"))).isEmpty();
+
+        MemberImportResponse rerun = memberImportService.importMembers(ndjson(
+                line("rerun-1", "one"),
+                line("rerun-2", "two"),
+                line("rerun-3", "three"),
+                line("rerun-4", "four")));
+
+        assertThat(rerun.getError()).isNull();
+        assertThat(rerun.getImported()).isEqualTo(2);
+        assertThat(rerun.getSkipped()).isEqualTo(2);
+        assertThat(memberRepository.findByOauthInfo(kakao("rerun-4"))).isPresent();
+    }
+
+    private static OauthInfo kakao(String oauthId) {
+        return new OauthInfo(oauthId, OauthProvider.KAKAO);
+    }
+
+    private static String line(String oauthId, String nickname) {
+        return "{\"oauthId\":\"" + oauthId + "\",\"provider\":\"KAKAO\",\"nickname\":\"" + nickname + "\"}";
+    }
+
+    private static ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.auth.oauth.OauthProvider;
+import com.example.oauth2.member.domain.OauthInfo;
+import com.example.oauth2.member.dto.MemberRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberServiceTest {
+
+    private static final int CONCURRENT_UPDATES = 8;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberCache memberCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentProfileUpdatesEachGetTheirOwnVersion() throws Exception {
+        Long memberId = memberService.registerOauthMember(new OauthInfo("version-1", OauthProvider.KAKAO), "before", null, "token");
+        long initialVersion = memberService.getVersion(memberId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_UPDATES);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> updates = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_UPDATES; i++) {
+                String nickname = "nickname" + i;
+                updates.add(executor.submit(() -> {
+                    start.await();
+                    memberService.update(memberId, new MemberRequest(nickname, null));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> update : updates) {
+                update.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 읽고 올리는 방식이었다면 겹친 수정이 같은 버전을 남긴다.
+        assertThat(memberService.getVersion(memberId)).isEqualTo(initialVersion + CONCURRENT_UPDATES);
+    }
+
+    @Test
+    void versionAndSnapshotSeeUpdatesFromOtherNodes() {
+        Long memberId = memberService.registerOauthMember(new OauthInfo("version-3", OauthProvider.KAKAO), "before", null, "token");
+        assertThat(memberService.getSnapshot(memberId).getNickname()).isEqualTo("before");
+
+        // 다른 노드의 수정은 이 노드의 회원 캐시를 지우지 않는다.
+        jdbcTemplate.update("update member set nickname = 'after', version = version + 1 where id = ?", memberId);
+
+        long version = memberService.getVersion(memberId);
+        assertThat(memberService.getSnapshot(memberId, version).getNickname()).isEqualTo("after");
+    }
+
+    @Test
+    void loginDoesNotChangeVersion() {
+        OauthInfo oauthInfo = new OauthInfo("version-2", OauthProvider.KAKAO);
+        Long memberId = memberService.registerOauthMember(oauthInfo, "nickname", null, "token-1");
+        long version = memberService.getVersion(memberId);
+
+        memberService.registerOauthMember(oauthInfo, "nickname", null, "token-2");
+
+        assertThat(memberService.getVersion(memberId)).isEqualTo(version);
+    }
+
+    @Test
+    void reloginUpdatesAccessTokenWithoutDroppingCachedSnapshot() {
+        OauthInfo oauthInfo = new OauthInfo("relogin-1", OauthProvider.KAKAO);
+        Long memberId = memberService.registerOauthMember(oauthInfo, "nickname", null, "token-1");
+        memberService.getSnapshot(memberId);
+
+        memberService.registerOauthMember(oauthInfo, "nickname", null, "token-2");
+        long hits = memberCache.getHitCount();
+        memberService.getSnapshot(memberId);
+
+        assertThat(memberCache.getHitCount()).isEqualTo(hits + 1);
+        assertThat(jdbcTemplate.queryForObject("select access_token from member where id = ?", String.class, memberId))
+                .isEqualTo("token-2");
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.oauth2.member.service;
+
+import com.example.oauth2.member.domain.RefreshToken;
+import com.example.oauth2.member.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 컨텍스트에서는 정리 작업이 꺼져 있으므로, 테스트마다 설정을 바꾼 RefreshTokenPurger 를 직접 만들어 purge() 를 부른다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenPurgerTest {
+
+    private static final long HOUR_MS = TimeUnit.HOURS.toMillis(1);
+
+    private static final long LEGACY_TTL_MS = TimeUnit.DAYS.toMillis(14);
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private RefreshTokenStore refreshTokenStore;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deletesAtMostMaxBatchesPerRun() throws InterruptedException {
+        long expired = System.currentTimeMillis() - HOUR_MS;
+        for (long memberId = 1; memberId <= 5; memberId++) {
+            refreshTokenRepository.save(new RefreshToken(memberId, "expired-" + memberId, expired));
+        }
+        refreshTokenRepository.save(new RefreshToken(6L, "valid", System.currentTimeMillis() + HOUR_MS));
+
+        RefreshTokenPurger purger = purger(2, 2);
+
+        // 한 번에 2개씩 최대 2번까지만 지우고, 나머지는 다음 실행으로 미룬다.
+        assertThat(purger.purge()).isEqualTo(4);
+        assertThat(refreshTokenRepository.count()).isEqualTo(2);
+        assertThat(purger.purge()).isEqualTo(1);
+        assertThat(refreshTokenRepository.findByMemberId(6L)).isPresent();
+    }
+
+    @Test
+    void keepsRowRotatedBetweenSelectAndDelete() {
+        long now = System.currentTimeMillis();
+        RefreshToken refreshToken = refreshTokenRepository.save(new RefreshToken(1L, "old", now - HOUR_MS));
+
+        List<Long> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, 10));
+        assertThat(ids).containsExactly(refreshToken.getId());
+
+        // 조회한 뒤 지우기 전에 같은 회원이 다시 로그인해서 토큰이 바뀐다.
+        refreshTokenRepository.save(refreshToken.update("new", now + HOUR_MS));
+
+        assertThat(refreshTokenRepository.deleteExpiredByIds(ids, now)).isZero();
+        assertThat(refreshTokenRepository.findByMemberId(1L))
+                .hasValueSatisfying(token -> assertThat(token.getTokenHash()).isEqualTo(RefreshToken.hash("new")));
+    }
+
+    @Test
+    void fillsMissingExpiresAtOfLegacyRows() throws InterruptedException {
+        RefreshToken legacy = refreshTokenRepository.save(new RefreshToken(1L, "legacy", System.currentTimeMillis()));
+        jdbcTemplate.update("update refresh_token set expires_at = null where id = ?", legacy.getId());
+
+        long before = System.currentTimeMillis();
+        assertThat(purger(2, 10).purge()).isZero();
+        long after = System.currentTimeMillis();
+
+        // 만료 시각을 알 수 없는 행은 바로 지우지 않고 유효 기간의 상한으로 채운다.
+        Long expiresAt = refreshTokenRepository.findByMemberId(1L).map(RefreshToken::getExpiresAt).orElse(null);
+        assertThat(expiresAt).isBetween(before + LEGACY_TTL_MS, after + LEGACY_TTL_MS);
+    }
+
+    private RefreshTokenPurger purger(int batchSize, int maxBatchesPerRun) {
+        return new RefreshTokenPurger(refreshTokenRepository, refreshTokenStore, new SimpleMeterRegistry(),
+                batchSize, 0, maxBatchesPerRun, LEGACY_TTL_MS);
+    }
+}